@@ -0,0 +1,246 @@
+package ArrayList;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A {@code List} backed by a gap buffer: one array whose free slots form a single gap
+ * that moves to wherever the last insert or remove happened.
+ *
+ * <p>An edit at index {@code i} first moves the gap to {@code i}, which copies only the
+ * elements between the old and the new position, and then fills or widens the gap in
+ * O(1). Edits clustered around a cursor, including repeated {@code add(0, e)} at the
+ * front, are amortized O(1) instead of {@code ArrayList}'s O(n) shift per call.
+ * {@code get} and {@code set} stay O(1): an index before the gap is used as-is, and an
+ * index after it is offset by the gap length.
+ *
+ * <p>Jumping between far-apart positions costs O(distance) per jump, so a random edit
+ * pattern performs like {@code ArrayList}.
+ */
+public class GapList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private Object[] elementData;
+    private int gapStart;   // first free slot
+    private int gapEnd;     // first element after the gap
+
+    public GapList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GapList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elementData = new Object[initialCapacity];
+        gapEnd = initialCapacity;
+    }
+
+    public GapList(Collection<? extends E> c) {
+        // copied here rather than through the overridable addAll
+        Object[] a = c.toArray();
+        elementData = Arrays.copyOf(a, a.length, Object[].class);
+        gapStart = elementData.length;
+        gapEnd = elementData.length;
+    }
+
+    @Override
+    public int size() {
+        return elementData.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        return (E) elementData[slot(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size());
+        int s = slot(index);
+        E old = (E) elementData[s];
+        elementData[s] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        add(size(), e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        modCount++;
+        moveGap(index);
+        if (gapStart == gapEnd) grow(1);
+        elementData[gapStart++] = element;
+    }
+
+    /**
+     * Inserts the whole collection with one gap move and at most one grow.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Objects.checkIndex(index, size() + 1);
+        Object[] a = c.toArray();
+        modCount++;
+        if (a.length == 0) return false;
+        moveGap(index);
+        if (gapEnd - gapStart < a.length) grow(a.length);
+        System.arraycopy(a, 0, elementData, gapStart, a.length);
+        gapStart += a.length;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        Objects.checkIndex(index, size());
+        modCount++;
+        moveGap(index);
+        E old = (E) elementData[gapEnd];
+        elementData[gapEnd++] = null;
+        return old;
+    }
+
+    /**
+     * Widens the gap over {@code [fromIndex, toIndex)}; used by {@code subList().clear()}.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        modCount++;
+        moveGap(fromIndex);
+        int n = toIndex - fromIndex;
+        Arrays.fill(elementData, gapEnd, gapEnd + n, null);
+        gapEnd += n;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(elementData, null);
+        gapStart = 0;
+        gapEnd = elementData.length;
+    }
+
+    public void addFirst(E e) {
+        add(0, e);
+    }
+
+    public void addLast(E e) {
+        add(size(), e);
+    }
+
+    public E getFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(0);
+    }
+
+    public E getLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(size() - 1);
+    }
+
+    public E removeFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(0);
+    }
+
+    public E removeLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(size() - 1);
+    }
+
+    /**
+     * Shrinks the backing array to the current size, leaving no gap.
+     */
+    public void trimToSize() {
+        if (gapStart != gapEnd) {
+            modCount++;
+            moveGap(size());
+            elementData = Arrays.copyOf(elementData, gapStart);
+            gapEnd = gapStart;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size()];
+        System.arraycopy(elementData, 0, result, 0, gapStart);
+        System.arraycopy(elementData, gapEnd, result, gapStart, elementData.length - gapEnd);
+        return result;
+    }
+
+    private int slot(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so it starts at {@code index}, copying only the elements in between
+     * and clearing the slots they leave behind.
+     */
+    private void moveGap(int index) {
+        int gap = gapEnd - gapStart;
+        if (index < gapStart) {
+            int n = gapStart - index;
+            System.arraycopy(elementData, index, elementData, index + gap, n);
+            Arrays.fill(elementData, index, Math.min(gapStart, index + gap), null);
+        } else if (index > gapStart) {
+            int n = index - gapStart;
+            System.arraycopy(elementData, gapEnd, elementData, gapStart, n);
+            Arrays.fill(elementData, Math.max(index, gapEnd), index + gap, null);
+        }
+        gapStart = index;
+        gapEnd = index + gap;
+    }
+
+    /**
+     * Grows the array by at least {@code needed} slots (normally by half), widening the
+     * gap where it currently is.
+     */
+    private void grow(int needed) {
+        int oldLength = elementData.length;
+        int size = oldLength - (gapEnd - gapStart);
+        long minLength = (long) size + needed;
+        long newLength = Math.max(minLength, Math.max(oldLength + (oldLength >> 1), DEFAULT_CAPACITY));
+        if (newLength > MAX_ARRAY_SIZE) {
+            if (minLength > MAX_ARRAY_SIZE) throw new OutOfMemoryError("Required array length too large");
+            newLength = MAX_ARRAY_SIZE;
+        }
+        Object[] grown = new Object[(int) newLength];
+        int tail = oldLength - gapEnd;
+        System.arraycopy(elementData, 0, grown, 0, gapStart);
+        System.arraycopy(elementData, gapEnd, grown, grown.length - tail, tail);
+        elementData = grown;
+        gapEnd = grown.length - tail;
+    }
+
+    /**
+     * Creates a list holding the given elements; nulls are allowed.
+     */
+    @SafeVarargs
+    public static <E> GapList<E> of(E... elements) {
+        GapList<E> list = new GapList<>(elements.length);
+        for (E e : elements) {
+            list.elementData[list.gapStart++] = e;
+        }
+        return list;
+    }
+}
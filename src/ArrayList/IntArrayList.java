@@ -0,0 +1,718 @@
+package ArrayList;
+
+import Looping.Functions;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A growable list of primitive {@code int} values backed by an {@code int[]}.
+ *
+ * <p>Same operations as {@code ArrayList<Integer>} but without boxing: every element is
+ * 4 bytes in one array instead of a 16-byte {@code Integer} plus a reference. Removal
+ * is split into {@link #removeAt(int)} and {@link #removeValue(int)}, so there is no
+ * {@code remove(int)} vs {@code remove(Object)} trap.
+ *
+ * <p>How the array grows is set by a {@link GrowthPolicy}: {@link GrowthPolicy#ONE_AND_HALF}
+ * (the {@code ArrayList} default), {@link GrowthPolicy#DOUBLE}, or a
+ * {@link GrowthPolicy#fixed(int) fixed increment} for very large lists where a 50% jump
+ * would overshoot the heap.
+ *
+ * <p>Iterators, spliterators and sub lists are fail-fast, like those of {@code ArrayList}.
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int[] EMPTY = {};
+
+    /** Largest array most VMs will allocate. */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Decides the new capacity when the list runs out of room.
+     */
+    @FunctionalInterface
+    public interface GrowthPolicy {
+
+        GrowthPolicy ONE_AND_HALF = factor(1.5);
+        GrowthPolicy DOUBLE = factor(2.0);
+
+        /**
+         * @param current     current capacity
+         * @param minCapacity capacity needed for the pending insert
+         * @return the new capacity; values below {@code minCapacity} are raised to it
+         */
+        long grow(int current, int minCapacity);
+
+        /** Multiplies the capacity by {@code factor} (> 1). */
+        static GrowthPolicy factor(double factor) {
+            if (!(factor > 1)) {
+                throw new IllegalArgumentException("Illegal growth factor: " + factor);
+            }
+            return (current, minCapacity) -> (long) (current * factor) + 1;
+        }
+
+        /** Adds {@code increment} slots each time: linear growth, minimal slack. */
+        static GrowthPolicy fixed(int increment) {
+            if (increment <= 0) {
+                throw new IllegalArgumentException("Illegal increment: " + increment);
+            }
+            return (current, minCapacity) -> (long) current + increment;
+        }
+    }
+
+    private final GrowthPolicy growth;
+    private int[] elementData;
+    private int size;
+    private int modCount;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.ONE_AND_HALF);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.ONE_AND_HALF);
+    }
+
+    public IntArrayList(int initialCapacity, GrowthPolicy growth) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.growth = Objects.requireNonNull(growth);
+        this.elementData = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    /**
+     * Creates a list holding a copy of {@code values}.
+     */
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Creates a copy of another list, with the same growth policy.
+     */
+    public IntArrayList(IntArrayList other) {
+        this.growth = other.growth;
+        this.elementData = Arrays.copyOf(other.elementData, other.size);
+        this.size = other.size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Length of the backing array. */
+    public int capacity() {
+        return elementData.length;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elementData[index];
+    }
+
+    /**
+     * @return the value previously at {@code index}
+     */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int old = elementData[index];
+        elementData[index] = value;
+        return old;
+    }
+
+    public void add(int value) {
+        modCount++;
+        if (size == elementData.length) grow(size + 1);
+        elementData[size++] = value;
+    }
+
+    public void add(int index, int value) {
+        Objects.checkIndex(index, size + 1);
+        modCount++;
+        if (size == elementData.length) grow(size + 1);
+        System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        elementData[index] = value;
+        size++;
+    }
+
+    public void addAll(int[] values) {
+        addAll(size, values, 0, values.length);
+    }
+
+    public void addAll(int index, int[] values) {
+        addAll(index, values, 0, values.length);
+    }
+
+    public void addAll(IntArrayList other) {
+        addAll(size, other.elementData, 0, other.size);
+    }
+
+    /**
+     * Inserts {@code values[from, to)} at {@code index} with at most one grow and one shift.
+     */
+    public void addAll(int index, int[] values, int from, int to) {
+        Objects.checkIndex(index, size + 1);
+        Objects.checkFromToIndex(from, to, values.length);
+        int n = to - from;
+        modCount++;
+        if (n == 0) return;
+        if (n > elementData.length - size) grow(Math.addExact(size, n));
+        System.arraycopy(elementData, index, elementData, index + n, size - index);
+        System.arraycopy(values, from, elementData, index, n);
+        size += n;
+    }
+
+    /**
+     * Removes the element at {@code index}.
+     *
+     * @return the removed value
+     */
+    public int removeAt(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        int old = elementData[index];
+        System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    /**
+     * Removes the first occurrence of {@code value}.
+     *
+     * @return true if it was found
+     */
+    public boolean removeValue(int value) {
+        int i = indexOf(value);
+        if (i < 0) return false;
+        removeAt(i);
+        return true;
+    }
+
+    /**
+     * Removes every element matching the filter. The filter sees every element before
+     * anything moves, so a filter that throws leaves the list unchanged.
+     */
+    public boolean removeIf(IntPredicate filter) {
+        return removeIf(filter, 0, size);
+    }
+
+    public void replaceAll(IntUnaryOperator operator) {
+        replaceAll(operator, 0, size);
+    }
+
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(int value) {
+        return indexOf(value, 0, size);
+    }
+
+    public int lastIndexOf(int value) {
+        return lastIndexOf(value, 0, size);
+    }
+
+    public void sort() {
+        modCount++;
+        Arrays.sort(elementData, 0, size);
+    }
+
+    // ----- bulk aggregates, run by the Looping.Functions kernels -----
+
+    /** Sum of all elements as a {@code long}, so it cannot overflow. */
+    public long sum() {
+        return Functions.sum(elementData, 0, size);
+    }
+
+    /** @throws NoSuchElementException if the list is empty */
+    public int min() {
+        return min(0, size);
+    }
+
+    /** @throws NoSuchElementException if the list is empty */
+    public int max() {
+        return max(0, size);
+    }
+
+    /** Number of elements in {@code [lo, hi)}. */
+    public int countBetween(int lo, int hi) {
+        return Functions.countBetween(elementData, 0, size, lo, hi);
+    }
+
+    /**
+     * Makes sure {@code minCapacity} elements fit without another grow. The growth policy
+     * is bypassed: the array becomes exactly {@code minCapacity} long if it has to change.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length) {
+            if (minCapacity > MAX_ARRAY_SIZE) throw new OutOfMemoryError("Required array length too large");
+            modCount++;
+            elementData = Arrays.copyOf(elementData, minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            modCount++;
+            elementData = size == 0 ? EMPTY : Arrays.copyOf(elementData, size);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    public void forEach(IntConsumer action) {
+        int expected = modCount;
+        int[] a = elementData;
+        int n = size;
+        for (int i = 0; i < n && modCount == expected; i++) {
+            action.accept(a[i]);
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr(0, size);
+    }
+
+    /**
+     * Late-binding, fail-fast spliterator that splits its range in halves, so parallel
+     * streams get balanced chunks down to single elements.
+     */
+    public Spliterator.OfInt spliterator() {
+        return new IntArrayListSpliterator(0, -1, 0);
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    /**
+     * A view of {@code [fromIndex, toIndex)} backed by this list: changes through either
+     * are visible in the other. Structural changes to this list made outside the view
+     * invalidate it.
+     */
+    public SubList subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntArrayList)) return false;
+        IntArrayList other = (IntArrayList) o;
+        return Arrays.equals(elementData, 0, size, other.elementData, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        // same as List.hashCode() over boxed Integers
+        int h = 1;
+        for (int i = 0; i < size; i++) {
+            h = 31 * h + elementData[i];
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return rangeToString(0, size);
+    }
+
+    // ----- range operations shared with SubList -----
+
+    private int indexOf(int value, int from, int to) {
+        int[] a = elementData;
+        for (int i = from; i < to; i++) {
+            if (a[i] == value) return i - from;
+        }
+        return -1;
+    }
+
+    private int lastIndexOf(int value, int from, int to) {
+        int[] a = elementData;
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == value) return i - from;
+        }
+        return -1;
+    }
+
+    /**
+     * Marks the matches of {@code [from, to)} in a bit set first, as {@code ArrayList} does,
+     * then compacts the survivors towards {@code from} and closes the gap.
+     */
+    private boolean removeIf(IntPredicate filter, int from, int to) {
+        int expected = modCount;
+        int[] a = elementData;
+        int first = from;
+        while (first < to && !filter.test(a[first])) {
+            first++;
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+        if (first == to) return false;
+        // bit k stands for index first + k
+        long[] dead = new long[((to - first - 1) >> 6) + 1];
+        dead[0] = 1L;
+        for (int i = first + 1; i < to; i++) {
+            if (filter.test(a[i])) dead[(i - first) >> 6] |= 1L << (i - first);
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+        // every element is copied down; only survivors advance the write index
+        int w = first;
+        for (int i = first + 1; i < to; i++) {
+            int k = i - first;
+            a[w] = a[i];
+            w += 1 - (int) ((dead[k >> 6] >>> k) & 1);
+        }
+        System.arraycopy(a, to, a, w, size - to);
+        size -= to - w;
+        modCount++;
+        return true;
+    }
+
+    private int min(int from, int to) {
+        if (from == to) throw new NoSuchElementException();
+        return Functions.min(elementData, from, to);
+    }
+
+    private int max(int from, int to) {
+        if (from == to) throw new NoSuchElementException();
+        return Functions.max(elementData, from, to);
+    }
+
+    private void replaceAll(IntUnaryOperator operator, int from, int to) {
+        int expected = modCount;
+        int[] a = elementData;
+        for (int i = from; i < to; i++) {
+            a[i] = operator.applyAsInt(a[i]);
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+    }
+
+    private void removeRange(int from, int to) {
+        modCount++;
+        System.arraycopy(elementData, to, elementData, from, size - to);
+        size -= to - from;
+    }
+
+    private String rangeToString(int from, int to) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = from; i < to; i++) {
+            if (i > from) sb.append(", ");
+            sb.append(elementData[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    private void grow(int minCapacity) {
+        int current = elementData.length;
+        long proposed = current == 0 ? Math.max(DEFAULT_CAPACITY, minCapacity) : growth.grow(current, minCapacity);
+        long capacity = Math.max(proposed, minCapacity);
+        if (capacity > MAX_ARRAY_SIZE) {
+            if (minCapacity > MAX_ARRAY_SIZE || minCapacity < 0) {
+                throw new OutOfMemoryError("Required array length too large");
+            }
+            capacity = MAX_ARRAY_SIZE;
+        }
+        elementData = Arrays.copyOf(elementData, (int) capacity);
+    }
+
+    /**
+     * A window onto {@code [offset, offset + size)} of the root list. Nested sub lists
+     * point at the same root, and every structural change is propagated to the parents'
+     * sizes so all of them stay consistent.
+     */
+    public final class SubList {
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        private SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        public int get(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            return elementData[offset + index];
+        }
+
+        public int set(int index, int value) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            int old = elementData[offset + index];
+            elementData[offset + index] = value;
+            return old;
+        }
+
+        public void add(int value) {
+            add(size, value);
+        }
+
+        public void add(int index, int value) {
+            Objects.checkIndex(index, size + 1);
+            checkForComodification();
+            IntArrayList.this.add(offset + index, value);
+            updateSize(1);
+        }
+
+        public void addAll(int[] values) {
+            checkForComodification();
+            IntArrayList.this.addAll(offset + size, values, 0, values.length);
+            updateSize(values.length);
+        }
+
+        public int removeAt(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            int old = IntArrayList.this.removeAt(offset + index);
+            updateSize(-1);
+            return old;
+        }
+
+        public boolean removeValue(int value) {
+            int i = indexOf(value);
+            if (i < 0) return false;
+            removeAt(i);
+            return true;
+        }
+
+        public boolean removeIf(IntPredicate filter) {
+            checkForComodification();
+            int before = IntArrayList.this.size;
+            boolean removed = IntArrayList.this.removeIf(filter, offset, offset + size);
+            if (removed) updateSize(IntArrayList.this.size - before);
+            return removed;
+        }
+
+        public void replaceAll(IntUnaryOperator operator) {
+            checkForComodification();
+            IntArrayList.this.replaceAll(operator, offset, offset + size);
+        }
+
+        public void clear() {
+            checkForComodification();
+            removeRange(offset, offset + size);
+            updateSize(-size);
+        }
+
+        public boolean contains(int value) {
+            return indexOf(value) >= 0;
+        }
+
+        public int indexOf(int value) {
+            checkForComodification();
+            return IntArrayList.this.indexOf(value, offset, offset + size);
+        }
+
+        public int lastIndexOf(int value) {
+            checkForComodification();
+            return IntArrayList.this.lastIndexOf(value, offset, offset + size);
+        }
+
+        public void sort() {
+            checkForComodification();
+            Arrays.sort(elementData, offset, offset + size);
+        }
+
+        public long sum() {
+            checkForComodification();
+            return Functions.sum(elementData, offset, offset + size);
+        }
+
+        public int min() {
+            checkForComodification();
+            return IntArrayList.this.min(offset, offset + size);
+        }
+
+        public int max() {
+            checkForComodification();
+            return IntArrayList.this.max(offset, offset + size);
+        }
+
+        public int countBetween(int lo, int hi) {
+            checkForComodification();
+            return Functions.countBetween(elementData, offset, offset + size, lo, hi);
+        }
+
+        public int[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(elementData, offset, offset + size);
+        }
+
+        public SubList subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            checkForComodification();
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        public PrimitiveIterator.OfInt iterator() {
+            checkForComodification();
+            return new Itr(offset, offset + size);
+        }
+
+        public Spliterator.OfInt spliterator() {
+            checkForComodification();
+            return new IntArrayListSpliterator(offset, offset + size, expectedModCount);
+        }
+
+        public IntStream stream() {
+            return StreamSupport.intStream(spliterator(), false);
+        }
+
+        public IntStream parallelStream() {
+            return StreamSupport.intStream(spliterator(), true);
+        }
+
+        @Override
+        public String toString() {
+            checkForComodification();
+            return rangeToString(offset, offset + size);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        private void updateSize(int delta) {
+            for (SubList s = this; s != null; s = s.parent) {
+                s.size += delta;
+                s.expectedModCount = modCount;
+            }
+        }
+    }
+
+    private class Itr implements PrimitiveIterator.OfInt {
+        private int cursor;
+        private final int end;
+        private final int expectedModCount = modCount;
+
+        Itr(int from, int to) {
+            this.cursor = from;
+            this.end = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < end;
+        }
+
+        @Override
+        public int nextInt() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (cursor >= end) throw new NoSuchElementException();
+            return elementData[cursor++];
+        }
+    }
+
+    /**
+     * Index-range spliterator over the backing array, modelled on ArrayList's. With
+     * {@code fence == -1} it binds to the list's size on first use.
+     */
+    private final class IntArrayListSpliterator implements Spliterator.OfInt {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        IntArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi = fence;
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public IntArrayListSpliterator trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new IntArrayListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i >= hi) return false;
+            index = i + 1;
+            action.accept(elementData[i]);
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int[] a = elementData;
+            for (int i = index; i < hi; i++) {
+                action.accept(a[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
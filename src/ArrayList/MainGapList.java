@@ -0,0 +1,53 @@
+package ArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Editor-style workloads on ArrayList and GapList: typing at a cursor that drifts
+ * slowly through the text, and repeated inserts at the front.
+ */
+public class MainGapList {
+
+    public static void main(String[] args) {
+        GapList<String> list = GapList.of("First", "Second", "Third");
+        list.add(1, "Inserted");
+        list.addFirst("Start");
+        list.addLast("End");
+        list.addAll(2, List.of("A", "B", "C"));
+        System.out.println("After the same inserts as ArrayListTest: " + list);
+        list.subList(2, 5).clear();
+        System.out.println("After subList(2, 5).clear(): " + list);
+
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        run("ArrayList", ArrayList::new, n);
+        run("GapList", GapList::new, n);
+    }
+
+    private static void run(String name, Supplier<List<Integer>> factory, int n) {
+        List<Integer> text = factory.get();
+        for (int i = 0; i < n; i++) {
+            text.add(i);
+        }
+        long start = System.nanoTime();
+        int cursor = n / 2;
+        for (int i = 0; i < n; i++) {
+            text.add(cursor++, i);
+            if (i % 8 == 7) {
+                text.remove(--cursor);          // backspace
+            }
+            if (i % 1000 == 999) {
+                cursor = Math.max(0, cursor - 50);   // move the cursor a little
+            }
+        }
+        long cursorMs = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            text.add(0, i);
+        }
+        long frontMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%-10s cursor edits %5d ms, front inserts %5d ms, size %d%n", name, cursorMs, frontMs, text.size());
+    }
+}
@@ -0,0 +1,59 @@
+package ArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IntArrayList next to ArrayList&lt;Integer&gt;: the remove-by-index vs remove-by-value
+ * trap, growth policies, sub list views, and a sum over a large list with streams.
+ */
+public class MainIntArrayList {
+
+    public static void main(String[] args) {
+        IntArrayList list = IntArrayList.of(1, 2, 3, 4, 5, 3);
+        System.out.println("List: " + list);
+        list.removeAt(0);
+        System.out.println("After removeAt(0): " + list);
+        list.removeValue(3);
+        System.out.println("After removeValue(3): " + list);
+        System.out.println("indexOf(3): " + list.indexOf(3) + ", lastIndexOf(3): " + list.lastIndexOf(3));
+
+        list.add(1, 42);
+        list.addAll(0, new int[]{7, 8});
+        IntArrayList.SubList middle = list.subList(2, 5);
+        middle.replaceAll(v -> v * 10);
+        middle.removeIf(v -> v == 420);
+        System.out.println("After editing subList(2, 5): " + list + ", view: " + middle);
+
+        for (String name : new String[]{"1.5x", "2x", "+1M"}) {
+            IntArrayList.GrowthPolicy policy = switch (name) {
+                case "1.5x" -> IntArrayList.GrowthPolicy.ONE_AND_HALF;
+                case "2x" -> IntArrayList.GrowthPolicy.DOUBLE;
+                default -> IntArrayList.GrowthPolicy.fixed(1 << 20);
+            };
+            IntArrayList grown = new IntArrayList(0, policy);
+            for (int i = 0; i < 10_000_000; i++) {
+                grown.add(i);
+            }
+            System.out.printf("%-5s growth: size %d, capacity %d%n", name, grown.size(), grown.capacity());
+        }
+
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        long start = System.nanoTime();
+        List<Integer> boxed = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            boxed.add(i);
+        }
+        long boxedSum = boxed.stream().mapToLong(Integer::longValue).sum();
+        System.out.printf("ArrayList<Integer>: fill + sum %d in %d ms%n", boxedSum, (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        IntArrayList ints = new IntArrayList();
+        for (int i = 0; i < n; i++) {
+            ints.add(i);
+        }
+        long sum = ints.parallelStream().asLongStream().sum();
+        System.out.printf("IntArrayList:       fill + sum %d in %d ms%n", sum, (System.nanoTime() - start) / 1_000_000);
+        ints.trimToSize();
+    }
+}
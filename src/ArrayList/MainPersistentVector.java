@@ -0,0 +1,50 @@
+package ArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handing out read views: copying an ArrayList for every reader versus sharing
+ * PersistentVector versions.
+ */
+public class MainPersistentVector {
+
+    public static void main(String[] args) {
+        PersistentVector<String> fruits = PersistentVector.of("Apple", "Banana", "Cherry");
+        PersistentVector<String> snapshot = fruits;
+        fruits = fruits.plus("Date").with(0, "Apricot");
+        System.out.println("Snapshot: " + snapshot);
+        System.out.println("Current: " + fruits);
+        System.out.println("Without last: " + fruits.minusLast());
+
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int views = 200;
+
+        long start = System.nanoTime();
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        long checksum = 0;
+        for (int v = 0; v < views; v++) {
+            list.set(v, -v);
+            List<Integer> view = new ArrayList<>(list);
+            checksum += view.get(v);
+        }
+        System.out.printf("ArrayList copies:        %5d ms (%d)%n", (System.nanoTime() - start) / 1_000_000, checksum);
+
+        start = System.nanoTime();
+        PersistentVector.Transient<Integer> builder = PersistentVector.<Integer>empty().asTransient();
+        for (int i = 0; i < n; i++) {
+            builder.add(i);
+        }
+        PersistentVector<Integer> vector = builder.persistent();
+        checksum = 0;
+        for (int v = 0; v < views; v++) {
+            vector = vector.with(v, -v);
+            PersistentVector<Integer> view = vector;
+            checksum += view.get(v);
+        }
+        System.out.printf("PersistentVector views:  %5d ms (%d)%n", (System.nanoTime() - start) / 1_000_000, checksum);
+    }
+}
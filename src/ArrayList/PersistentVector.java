@@ -0,0 +1,421 @@
+package ArrayList;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares structure between versions: a 32-way trie of arrays
+ * plus a separate tail array, as in Clojure's vector.
+ *
+ * <p>Because nothing is ever modified in place, handing out a consistent read view is
+ * just passing the reference: no {@code new ArrayList<>(list)} copy. Updates return a new
+ * version that copies only the path from the root to the changed leaf, i.e. at most
+ * log32(n) arrays of 32 slots (7 levels cover every {@code int} index). Appends usually
+ * touch only the tail and copy nothing from the trie.
+ *
+ * <p>For bulk construction use {@link #asTransient()}: the returned builder edits nodes it
+ * created in place and turns back into a persistent vector in O(1).
+ *
+ * <p>The {@code java.util.List} mutators throw {@code UnsupportedOperationException}; use
+ * {@link #plus}, {@link #with} and {@link #minusLast} instead. Null elements are allowed.
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * A trie node. {@code edit} names the transient allowed to modify it in place; nodes
+     * of persistent vectors are never modified once published.
+     */
+    private static final class Node {
+        final Object edit;
+        final Object[] array;
+
+        Node(Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(null);
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentVector<E> of(E... elements) {
+        Transient<E> builder = PersistentVector.<E>empty().asTransient();
+        for (E e : elements) {
+            builder.add(e);
+        }
+        return builder.persistent();
+    }
+
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> c) {
+        Transient<E> builder = PersistentVector.<E>empty().asTransient();
+        for (E e : c) {
+            builder.add(e);
+        }
+        return builder.persistent();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a new vector with {@code e} appended.
+     */
+    public PersistentVector<E> plus(E e) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = e;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // tail is full: push it into the trie, adding a level if the root is full too
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(size, shift, root, tailNode);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{e});
+    }
+
+    /**
+     * Returns a new vector with {@code index} set to {@code e}; {@code index == size()}
+     * appends.
+     */
+    public PersistentVector<E> with(int index, E e) {
+        if (index == size) return plus(e);
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = e;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, e), tail);
+    }
+
+    /**
+     * Returns a new vector without the last element.
+     */
+    public PersistentVector<E> minusLast() {
+        if (size == 0) throw new NoSuchElementException();
+        if (size == 1) return empty();
+        if (size - tailOffset() > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2);
+        Node newRoot = popTail(size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * A mutable builder starting from this vector's contents, in O(1). This vector is
+     * not affected by anything done through the builder.
+     */
+    public Transient<E> asTransient() {
+        return new Transient<>(this);
+    }
+
+    /**
+     * Walks the leaves array by array instead of descending the trie for every element.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int i;
+            private Object[] leaf = size > 0 ? leafFor(0) : null;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (i >= size) throw new NoSuchElementException();
+                if (i > 0 && (i & MASK) == 0) leaf = leafFor(i);
+                return (E) leaf[i++ & MASK];
+            }
+        };
+    }
+
+    private int tailOffset() {
+        return tailOffset(size);
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) return tail;
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) return node;
+        Node path = new Node(edit);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    private static Node pushTail(int size, int level, Node parent, Node tailNode) {
+        int sub = ((size - 1) >>> level) & MASK;
+        Node copy = new Node(null, parent.array.clone());
+        Node child;
+        if (level == BITS) {
+            child = tailNode;
+        } else {
+            Node existing = (Node) parent.array[sub];
+            child = existing != null
+                    ? pushTail(size, level - BITS, existing, tailNode)
+                    : newPath(null, level - BITS, tailNode);
+        }
+        copy.array[sub] = child;
+        return copy;
+    }
+
+    private static Node assoc(int level, Node node, int index, Object value) {
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[index & MASK] = value;
+        } else {
+            int sub = (index >>> level) & MASK;
+            copy.array[sub] = assoc(level - BITS, (Node) node.array[sub], index, value);
+        }
+        return copy;
+    }
+
+    /**
+     * Drops the rightmost leaf; returns null if the node becomes empty.
+     */
+    private static Node popTail(int size, int level, Node node) {
+        int sub = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node child = popTail(size, level - BITS, (Node) node.array[sub]);
+            if (child == null && sub == 0) return null;
+            Node copy = new Node(null, node.array.clone());
+            copy.array[sub] = child;
+            return copy;
+        }
+        if (sub == 0) return null;
+        Node copy = new Node(null, node.array.clone());
+        copy.array[sub] = null;
+        return copy;
+    }
+
+    /**
+     * A single-threaded builder over the same trie. Nodes it creates are tagged with its
+     * own edit token and modified in place; nodes shared with persistent vectors are
+     * copied once, on first write. {@link #persistent()} ends the builder.
+     */
+    public static final class Transient<E> {
+        private Object owner = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Transient(PersistentVector<E> v) {
+            this.size = v.size;
+            this.shift = v.shift;
+            this.root = new Node(owner, v.root.array.clone());
+            this.tail = Arrays.copyOf(v.tail, WIDTH);
+        }
+
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            ensureEditable();
+            Objects.checkIndex(index, size);
+            return (E) leafFor(index)[index & MASK];
+        }
+
+        public Transient<E> add(E e) {
+            ensureEditable();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size++ & MASK] = e;
+                return this;
+            }
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = e;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        public Transient<E> set(int index, E e) {
+            ensureEditable();
+            if (index == size) return add(e);
+            Objects.checkIndex(index, size);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = e;
+            } else {
+                root = assoc(shift, root, index, e);
+            }
+            return this;
+        }
+
+        public Transient<E> removeLast() {
+            ensureEditable();
+            if (size == 0) throw new NoSuchElementException();
+            if (size == 1 || ((size - 1) & MASK) > 0) {
+                tail[--size & MASK] = null;
+                return this;
+            }
+            Object[] newTail = editableLeafFor(size - 2);
+            Node newRoot = popTail(shift, root);
+            if (newRoot == null) {
+                newRoot = new Node(owner);
+            }
+            if (shift > BITS && newRoot.array[1] == null) {
+                newRoot = editable((Node) newRoot.array[0]);
+                shift -= BITS;
+            }
+            root = newRoot;
+            tail = newTail;
+            size--;
+            return this;
+        }
+
+        /**
+         * Freezes the contents into a persistent vector in O(1); the builder cannot be
+         * used afterwards.
+         */
+        public PersistentVector<E> persistent() {
+            ensureEditable();
+            owner = null;
+            int tailLength = size - tailOffset(size);
+            return new PersistentVector<>(size, shift, root, Arrays.copyOf(tail, tailLength));
+        }
+
+        private void ensureEditable() {
+            if (owner == null) throw new IllegalStateException("Transient used after persistent()");
+        }
+
+        private Node editable(Node node) {
+            return node.edit == owner ? node : new Node(owner, node.array.clone());
+        }
+
+        private Object[] leafFor(int index) {
+            if (index >= tailOffset(size)) return tail;
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Node) node.array[(index >>> level) & MASK];
+            }
+            return node.array;
+        }
+
+        private Object[] editableLeafFor(int index) {
+            Object[] leaf = leafFor(index);
+            return leaf == tail ? leaf : leaf.clone();
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            Node node = editable(parent);
+            int sub = ((size - 1) >>> level) & MASK;
+            if (level == BITS) {
+                node.array[sub] = tailNode;
+            } else {
+                Node existing = (Node) node.array[sub];
+                node.array[sub] = existing != null
+                        ? pushTail(level - BITS, existing, tailNode)
+                        : newPath(owner, level - BITS, tailNode);
+            }
+            return node;
+        }
+
+        private Node assoc(int level, Node parent, int index, Object value) {
+            Node node = editable(parent);
+            if (level == 0) {
+                node.array[index & MASK] = value;
+            } else {
+                int sub = (index >>> level) & MASK;
+                node.array[sub] = assoc(level - BITS, (Node) node.array[sub], index, value);
+            }
+            return node;
+        }
+
+        private Node popTail(int level, Node parent) {
+            Node node = editable(parent);
+            int sub = ((size - 2) >>> level) & MASK;
+            if (level > BITS) {
+                Node child = popTail(level - BITS, (Node) node.array[sub]);
+                if (child == null && sub == 0) return null;
+                node.array[sub] = child;
+                return node;
+            }
+            if (sub == 0) return null;
+            node.array[sub] = null;
+            return node;
+        }
+    }
+}
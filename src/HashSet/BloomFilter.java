@@ -0,0 +1,138 @@
+package HashSet;
+
+import java.util.Arrays;
+
+/**
+ * A blocked Bloom filter over 32-bit hashes, used as an optional front layer for the
+ * hash sets in this package so that most negative {@code contains} calls are answered
+ * without touching the table.
+ *
+ * <p>Each key maps to one 512-bit block (a single 64-byte cache line) and sets
+ * {@code k} bits inside it, so a lookup costs one cache miss at most. The filter never
+ * gives false negatives; removals are not supported, so a set rebuilds its filter when
+ * it resizes to drop stale bits.
+ *
+ * <p>The filter also counts what it saw: lookups it rejected outright, lookups it let
+ * through, and how many of those the owning set reported as false positives.
+ */
+public class BloomFilter {
+
+    private static final int BLOCK_WORDS = 8;   // 8 x 64 bits = one cache line
+    private static final int BLOCK_BITS = BLOCK_WORDS * 64;
+
+    private final long[] words;
+    private final int blockMask;
+    private final int hashes;
+    private final double targetFpp;
+
+    private long rejected;
+    private long passed;
+    private long falsePositives;
+
+    /**
+     * @param expectedInsertions number of keys the filter should be sized for
+     * @param fpp                target false-positive probability, in (0, 1)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("Illegal false-positive rate: " + fpp);
+        }
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-n * Math.log(fpp) / (ln2 * ln2));
+        int blocks = 1;
+        while ((long) blocks * BLOCK_BITS < bits && blocks < (1 << 24)) {
+            blocks <<= 1;
+        }
+        this.words = new long[blocks * BLOCK_WORDS];
+        this.blockMask = blocks - 1;
+        this.hashes = (int) Math.max(1, Math.min(16, Math.round((double) blocks * BLOCK_BITS / n * ln2)));
+        this.targetFpp = fpp;
+    }
+
+    public void put(int hash) {
+        long h = mix(hash);
+        int base = ((int) (h >>> 40) & blockMask) * BLOCK_WORDS;
+        int h1 = (int) h;
+        int h2 = ((int) (h >>> 16) * 0x85EBCA6B) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & (BLOCK_BITS - 1);
+            words[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * False means the key was definitely never added; true means it may have been.
+     */
+    public boolean mightContain(int hash) {
+        long h = mix(hash);
+        int base = ((int) (h >>> 40) & blockMask) * BLOCK_WORDS;
+        int h1 = (int) h;
+        int h2 = ((int) (h >>> 16) * 0x85EBCA6B) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & (BLOCK_BITS - 1);
+            if ((words[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                rejected++;
+                return false;
+            }
+        }
+        passed++;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Called by the owning set when a lookup that passed the filter found nothing.
+     */
+    void recordFalsePositive() {
+        falsePositives++;
+    }
+
+    /**
+     * Carries the counters over when a set replaces its filter with a rebuilt one.
+     */
+    void inheritStats(BloomFilter previous) {
+        rejected += previous.rejected;
+        passed += previous.passed;
+        falsePositives += previous.falsePositives;
+    }
+
+    public double targetFalsePositiveRate() {
+        return targetFpp;
+    }
+
+    /** Lookups answered "definitely not present" by the filter alone. */
+    public long rejectedCount() {
+        return rejected;
+    }
+
+    /** Lookups the filter let through to the table. */
+    public long passedCount() {
+        return passed;
+    }
+
+    /** Lookups the filter let through that turned out to be absent. */
+    public long falsePositiveCount() {
+        return falsePositives;
+    }
+
+    /** Observed false positives among all lookups of absent keys. */
+    public double observedFalsePositiveRate() {
+        long negatives = rejected + falsePositives;
+        return negatives == 0 ? 0 : (double) falsePositives / negatives;
+    }
+
+    public long sizeInBytes() {
+        return words.length * 8L;
+    }
+
+    private static long mix(int hash) {
+        long h = hash * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        return h ^ (h >>> 29);
+    }
+}
@@ -0,0 +1,298 @@
+package HashSet;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe hash set split into independently locked stripes.
+ *
+ * <ul>
+ *   <li>{@code contains} never locks: bins are read through volatile array slots and
+ *       volatile {@code next} links, so a reader sees each chain either before or after a
+ *       concurrent update, never half-way.</li>
+ *   <li>{@code add} and {@code remove} lock only the stripe the element hashes to, so
+ *       threads working on different stripes don't contend.</li>
+ *   <li>Each stripe resizes on its own, under its own lock, while the other stripes keep
+ *       serving updates. The grown table is built from copied nodes and published in one
+ *       volatile write, so lock-free readers of the old table are never disturbed.</li>
+ *   <li>{@code size()} is a {@link LongAdder}, so counting doesn't serialize writers.</li>
+ * </ul>
+ * Iterators are weakly consistent, like those of {@code ConcurrentHashMap.newKeySet()}.
+ * Null elements are not permitted.
+ */
+public class ConcurrentStripedHashSet<E> extends AbstractSet<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final Stripe<E>[] stripes;
+    private final int stripeShift;
+    private final float loadFactor;
+    private final LongAdder count = new LongAdder();
+
+    private static final class Node<E> {
+        final int hash;
+        final E key;
+        volatile Node<E> next;
+
+        Node(int hash, E key, Node<E> next) {
+            this.hash = hash;
+            this.key = key;
+            this.next = next;
+        }
+    }
+
+    /**
+     * One independently locked hash table; extends the lock to save an object per stripe.
+     */
+    private static final class Stripe<E> extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        volatile AtomicReferenceArray<Node<E>> table;
+        int size;       // guarded by the lock
+        int threshold;  // guarded by the lock
+
+        Stripe(int capacity, float loadFactor) {
+            this.table = new AtomicReferenceArray<>(capacity);
+            this.threshold = (int) (capacity * loadFactor);
+        }
+    }
+
+    public ConcurrentStripedHashSet() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentStripedHashSet(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentStripedHashSet(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @param concurrencyLevel expected number of concurrently updating threads; rounded
+     *                         up to a power of two to give the number of stripes
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentStripedHashSet(int initialCapacity, float loadFactor, int concurrencyLevel) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0) || concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal load factor or concurrency level");
+        }
+        int n = 1;
+        int shift = 0;
+        while (n < concurrencyLevel && n < (1 << 16)) {
+            n <<= 1;
+            shift++;
+        }
+        int perStripe = 1;
+        while (perStripe * n * loadFactor < initialCapacity) {
+            perStripe <<= 1;
+        }
+        this.loadFactor = loadFactor;
+        this.stripeShift = 32 - shift;
+        this.stripes = (Stripe<E>[]) new Stripe<?>[n];
+        for (int i = 0; i < n; i++) {
+            stripes[i] = new Stripe<>(perStripe, loadFactor);
+        }
+    }
+
+    public ConcurrentStripedHashSet(Collection<? extends E> c) {
+        this(Math.max(c.size(), DEFAULT_CAPACITY));
+        for (E e : c) {
+            insert(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        // the adder's cells are summed one at a time, so a racing add and remove can
+        // be seen half done; clamp as ConcurrentHashMap does
+        long n = count.sum();
+        return n < 0 ? 0 : (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count.sum() <= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        int hash = hash(o);
+        AtomicReferenceArray<Node<E>> tab = stripeFor(hash).table;
+        for (Node<E> node = tab.get(hash & (tab.length() - 1)); node != null; node = node.next) {
+            if (node.hash == hash && o.equals(node.key)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean add(E e) {
+        return insert(e);
+    }
+
+    // add's body, private so the copy constructor doesn't call an overridable method
+    private boolean insert(E e) {
+        int hash = hash(e);
+        Stripe<E> stripe = stripeFor(hash);
+        stripe.lock();
+        try {
+            AtomicReferenceArray<Node<E>> tab = stripe.table;
+            int i = hash & (tab.length() - 1);
+            Node<E> first = tab.get(i);
+            for (Node<E> node = first; node != null; node = node.next) {
+                if (node.hash == hash && e.equals(node.key)) return false;
+            }
+            tab.set(i, new Node<>(hash, e, first));
+            // counted under the lock like remove and clear, so neither can take it
+            // off before it is on
+            count.increment();
+            if (++stripe.size > stripe.threshold) grow(stripe);
+        } finally {
+            stripe.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int hash = hash(o);
+        Stripe<E> stripe = stripeFor(hash);
+        stripe.lock();
+        try {
+            AtomicReferenceArray<Node<E>> tab = stripe.table;
+            int i = hash & (tab.length() - 1);
+            Node<E> prev = null;
+            for (Node<E> node = tab.get(i); node != null; prev = node, node = node.next) {
+                if (node.hash == hash && o.equals(node.key)) {
+                    // readers already on `node` can still follow node.next
+                    if (prev == null) {
+                        tab.set(i, node.next);
+                    } else {
+                        prev.next = node.next;
+                    }
+                    stripe.size--;
+                    count.decrement();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Stripe<E> stripe : stripes) {
+            stripe.lock();
+            try {
+                AtomicReferenceArray<Node<E>> tab = stripe.table;
+                stripe.table = new AtomicReferenceArray<>(tab.length());
+                count.add(-stripe.size);
+                stripe.size = 0;
+            } finally {
+                stripe.unlock();
+            }
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this, Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Doubles the stripe's table. Called with the stripe lock held; other stripes are
+     * unaffected and carry on concurrently.
+     */
+    private void grow(Stripe<E> stripe) {
+        AtomicReferenceArray<Node<E>> old = stripe.table;
+        int capacity = old.length();
+        if (capacity >= (1 << 30)) return;
+        AtomicReferenceArray<Node<E>> grown = new AtomicReferenceArray<>(capacity * 2);
+        int mask = capacity * 2 - 1;
+        for (int b = 0; b < capacity; b++) {
+            for (Node<E> node = old.get(b); node != null; node = node.next) {
+                int i = node.hash & mask;
+                grown.set(i, new Node<>(node.hash, node.key, grown.get(i)));
+            }
+        }
+        stripe.threshold = (int) (capacity * 2 * loadFactor);
+        stripe.table = grown;
+    }
+
+    private Stripe<E> stripeFor(int hash) {
+        // top bits pick the stripe, low bits pick the bin, so the two stay independent
+        return stripeShift == 32 ? stripes[0] : stripes[hash >>> stripeShift];
+    }
+
+    static int hash(Object o) {
+        int h = o.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private class Itr implements Iterator<E> {
+        private int stripeIndex;
+        private AtomicReferenceArray<Node<E>> tab;
+        private int bin;
+        private Node<E> next;
+        private E lastReturned;
+
+        Itr() {
+            tab = stripes[0].table;
+            advance();
+        }
+
+        private void advance() {
+            while (next == null) {
+                if (bin < tab.length()) {
+                    next = tab.get(bin++);
+                } else if (stripeIndex + 1 < stripes.length) {
+                    tab = stripes[++stripeIndex].table;
+                    bin = 0;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (next == null) throw new NoSuchElementException();
+            lastReturned = next.key;
+            next = next.next;
+            advance();
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            ConcurrentStripedHashSet.this.remove(lastReturned);
+            lastReturned = null;
+        }
+    }
+}
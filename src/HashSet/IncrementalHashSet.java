@@ -0,0 +1,358 @@
+package HashSet;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A chained hash set that grows without a stop-the-world rehash.
+ *
+ * <p>When the load factor is exceeded, a table twice the size is allocated next to the
+ * current one and the old buckets are migrated a few at a time by every following
+ * {@code add} and {@code remove} (the same scheme as Redis' dict). While a migration is
+ * in progress, lookups check both tables and new elements go straight into the new one.
+ * No single operation pays for more than a handful of buckets, so there is no O(n) pause.
+ *
+ * <p>{@code contains} does not move entries, so read-only iteration never sees the table
+ * change underneath it. Call {@link #rehashStep(int)} to push a pending migration forward
+ * during idle time in read-mostly phases.
+ */
+public class IncrementalHashSet<E> extends AbstractSet<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /** Non-empty buckets migrated per update. */
+    private static final int MIGRATE_BUCKETS = 2;
+
+    /** Empty buckets an update may skip over before giving up for this step. */
+    private static final int MAX_EMPTY_VISITS = 20;
+
+    private final float loadFactor;
+    private Node<E>[] table;
+    private Node<E>[] growing;   // non-null while a migration is in progress
+    private int rehashIndex;     // next bucket of `table` to migrate
+    private int threshold;
+    private int size;
+    private int modCount;
+    private BloomFilter bloom;          // optional front layer for negative lookups
+    private BloomFilter growingBloom;   // filled alongside `growing` during a migration
+
+    private static class Node<E> {
+        final int hash;
+        final E key;
+        Node<E> next;
+
+        Node(int hash, E key, Node<E> next) {
+            this.hash = hash;
+            this.key = key;
+            this.next = next;
+        }
+    }
+
+    public IncrementalHashSet() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IncrementalHashSet(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IncrementalHashSet(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        int capacity = 1;
+        while (capacity < initialCapacity / loadFactor && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        this.table = newTable(capacity);
+        this.threshold = thresholdFor(capacity);
+    }
+
+    public IncrementalHashSet(Collection<? extends E> c) {
+        this(Math.max(c.size(), DEFAULT_CAPACITY), DEFAULT_LOAD_FACTOR);
+        for (E e : c) {
+            insert(e);
+        }
+    }
+
+    /**
+     * Puts a Bloom filter in front of {@code contains}, so most lookups of absent
+     * elements skip the bucket walk and its {@code equals} calls. On growth the larger
+     * filter is filled incrementally, bucket by bucket, along with the migration, so
+     * enabling it adds no resize pause either. This call itself is O(n).
+     */
+    public void enableBloomFilter(double falsePositiveRate) {
+        BloomFilter previous = bloom;
+        bloom = new BloomFilter(threshold, falsePositiveRate);
+        if (previous != null) bloom.inheritStats(previous);
+        fillBloom(table);
+        if (growing != null) {
+            // already sized for the grown table, so it can serve as the growing filter too
+            fillBloom(growing);
+        }
+        growingBloom = growing != null ? bloom : null;
+    }
+
+    private void fillBloom(Node<E>[] tab) {
+        for (Node<E> node : tab) {
+            for (; node != null; node = node.next) {
+                bloom.put(node.hash);
+            }
+        }
+    }
+
+    public void disableBloomFilter() {
+        bloom = null;
+        growingBloom = null;
+    }
+
+    /**
+     * The current filter, for its hit and false-positive counters; null if disabled.
+     */
+    public BloomFilter bloomFilter() {
+        return bloom;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        int hash = hash(o);
+        if (bloom != null && !bloom.mightContain(hash)) return false;
+        if ((growing != null && find(growing, hash, o) != null) || find(table, hash, o) != null) return true;
+        if (bloom != null) bloom.recordFalsePositive();
+        return false;
+    }
+
+    @Override
+    public boolean add(E e) {
+        return insert(e);
+    }
+
+    // add's body, private so the copy constructor doesn't call an overridable method
+    private boolean insert(E e) {
+        rehashStep(MIGRATE_BUCKETS);
+        int hash = hash(e);
+        if (find(table, hash, e) != null) return false;
+        if (growing != null && find(growing, hash, e) != null) return false;
+        Node<E>[] target = growing != null ? growing : table;
+        int i = hash & (target.length - 1);
+        target[i] = new Node<>(hash, e, target[i]);
+        if (bloom != null) {
+            bloom.put(hash);
+            if (growingBloom != null && growingBloom != bloom) growingBloom.put(hash);
+        }
+        size++;
+        modCount++;
+        if (size >= threshold) startGrowing();
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        rehashStep(MIGRATE_BUCKETS);
+        return removeNode(o);
+    }
+
+    @Override
+    public void clear() {
+        table = newTable(table.length);
+        growing = null;
+        rehashIndex = 0;
+        // a clear mid-migration drops the larger table, so the threshold startGrowing()
+        // raised for it no longer applies
+        threshold = thresholdFor(table.length);
+        size = 0;
+        modCount++;
+        if (bloom != null) {
+            bloom.clear();
+            growingBloom = null;
+        }
+    }
+
+    /**
+     * Migrates up to {@code buckets} non-empty buckets of a pending resize.
+     *
+     * @return true if a migration is still in progress afterwards
+     */
+    public boolean rehashStep(int buckets) {
+        if (growing == null) return false;
+        int emptyVisits = buckets * MAX_EMPTY_VISITS;
+        Node<E>[] old = table;
+        int mask = growing.length - 1;
+        while (buckets > 0 && rehashIndex < old.length) {
+            Node<E> node = old[rehashIndex];
+            if (node == null) {
+                rehashIndex++;
+                if (--emptyVisits == 0) break;
+                continue;
+            }
+            while (node != null) {
+                Node<E> next = node.next;
+                int i = node.hash & mask;
+                node.next = growing[i];
+                growing[i] = node;
+                if (growingBloom != null) growingBloom.put(node.hash);
+                node = next;
+            }
+            old[rehashIndex++] = null;
+            buckets--;
+        }
+        if (rehashIndex == old.length) {
+            table = growing;
+            growing = null;
+            rehashIndex = 0;
+            if (growingBloom != null && growingBloom != bloom) {
+                growingBloom.inheritStats(bloom);
+                bloom = growingBloom;
+            }
+            growingBloom = null;
+        }
+        modCount++;
+        return growing != null;
+    }
+
+    /**
+     * True while entries are still being moved into a larger table.
+     */
+    public boolean isRehashing() {
+        return growing != null;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    private void startGrowing() {
+        if (growing != null) {
+            // still migrating from the previous growth: finish that first
+            while (rehashStep(Integer.MAX_VALUE)) { }
+        }
+        if (table.length >= (1 << 30)) return;
+        growing = newTable(table.length * 2);
+        rehashIndex = 0;
+        threshold = thresholdFor(growing.length);
+        if (bloom != null) {
+            growingBloom = new BloomFilter(threshold, bloom.targetFalsePositiveRate());
+        }
+    }
+
+    private boolean removeNode(Object o) {
+        int hash = hash(o);
+        if (unlink(table, hash, o) || (growing != null && unlink(growing, hash, o))) {
+            size--;
+            modCount++;
+            return true;
+        }
+        return false;
+    }
+
+    private static <E> boolean unlink(Node<E>[] tab, int hash, Object o) {
+        int i = hash & (tab.length - 1);
+        Node<E> prev = null;
+        for (Node<E> node = tab[i]; node != null; prev = node, node = node.next) {
+            if (node.hash == hash && Objects.equals(node.key, o)) {
+                if (prev == null) {
+                    tab[i] = node.next;
+                } else {
+                    prev.next = node.next;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <E> Node<E> find(Node<E>[] tab, int hash, Object o) {
+        for (Node<E> node = tab[hash & (tab.length - 1)]; node != null; node = node.next) {
+            if (node.hash == hash && Objects.equals(node.key, o)) return node;
+        }
+        return null;
+    }
+
+    private int thresholdFor(int capacity) {
+        return (int) Math.min(capacity * (double) loadFactor, Integer.MAX_VALUE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E>[] newTable(int capacity) {
+        return (Node<E>[]) new Node<?>[capacity];
+    }
+
+    /**
+     * Same spreading as HashMap: fold the high bits into the low bits used for indexing.
+     */
+    static int hash(Object o) {
+        int h;
+        return o == null ? 0 : (h = o.hashCode()) ^ (h >>> 16);
+    }
+
+    /**
+     * Walks the current table, then the growing one. Fail-fast on any structural change
+     * (including migration steps) that was not made through this iterator.
+     */
+    private class Itr implements Iterator<E> {
+        private Node<E>[] tab = table;
+        private boolean inGrowing;
+        private int index;
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int expectedModCount = modCount;
+
+        Itr() {
+            advance();
+        }
+
+        private void advance() {
+            while (next == null) {
+                if (index < tab.length) {
+                    next = tab[index++];
+                } else if (!inGrowing && growing != null) {
+                    tab = growing;
+                    inGrowing = true;
+                    index = 0;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (next == null) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.next;
+            advance();
+            return lastReturned.key;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            // no migration step here, the buckets must stay where the iterator expects them
+            removeNode(lastReturned.key);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+}
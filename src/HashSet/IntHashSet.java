@@ -0,0 +1,397 @@
+package HashSet;
+
+import Looping.Functions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * A hash set of primitive {@code int} values using open addressing with linear probing.
+ * Keys live directly in an {@code int[]} table, so there is no boxing and no per-element
+ * node: {@code add}, {@code contains} and {@code remove} never allocate (except when the
+ * table grows). Removal uses backward-shift deletion, so no tombstones accumulate.
+ *
+ * <p>The value {@code 0} marks an empty slot; the key 0 itself is tracked with a flag.
+ *
+ * <p>{@link #snapshot(Path)} writes the table to disk unchanged, and
+ * {@link MappedIntSet#open(Path)} serves lookups from it again without rebuilding.
+ */
+public class IntHashSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private final float loadFactor;
+    private int[] table;
+    private int mask;
+    private int maxFill;
+    private int size;
+    private boolean containsZero;
+    private BloomFilter bloom;      // optional front layer for negative lookups
+
+    /**
+     * Creates an empty set with the default capacity (16) and load factor (0.75).
+     */
+    public IntHashSet() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty set able to hold {@code initialCapacity} elements before resizing.
+     */
+    public IntHashSet(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty set with the given initial capacity and load factor.
+     * The load factor must be in (0, 1) because every element needs its own slot.
+     */
+    public IntHashSet(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(initialCapacity, loadFactor));
+    }
+
+    /**
+     * Creates a set containing the given values (duplicates are dropped).
+     */
+    public static IntHashSet of(int... values) {
+        IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Creates a copy of another set.
+     */
+    public IntHashSet(IntHashSet other) {
+        this.loadFactor = other.loadFactor;
+        this.table = other.table.clone();
+        this.mask = other.mask;
+        this.maxFill = other.maxFill;
+        this.size = other.size;
+        this.containsZero = other.containsZero;
+        if (other.bloom != null) {
+            buildBloomFilter(other.bloom.targetFalsePositiveRate());
+        }
+    }
+
+    /**
+     * Adopts a table read back from a snapshot; it is already laid out for this hash.
+     */
+    IntHashSet(int[] table, int size, boolean containsZero, float loadFactor) {
+        this.loadFactor = loadFactor;
+        this.table = table;
+        this.mask = table.length - 1;
+        this.maxFill = Math.min(table.length - 1, (int) Math.ceil(table.length * loadFactor));
+        this.size = size;
+        this.containsZero = containsZero;
+    }
+
+    /**
+     * Writes the table to {@code file} in the format read by {@link MappedIntSet#open(Path)}.
+     * The file is written under a temporary name and moved into place when complete.
+     */
+    public void snapshot(Path file) {
+        try (SnapshotWriter out = new SnapshotWriter(file, MappedIntSet.HEADER)) {
+            for (int k : table) {
+                out.putInt(k);
+            }
+            ByteBuffer header = SnapshotWriter.header(MappedIntSet.HEADER, MappedIntSet.MAGIC, MappedIntSet.VERSION);
+            header.putInt(MappedIntSet.H_FLAGS, containsZero ? 1 : 0);
+            header.putFloat(MappedIntSet.H_LOAD_FACTOR, loadFactor);
+            header.putInt(MappedIntSet.H_SIZE, size);
+            header.putInt(MappedIntSet.H_CAPACITY, table.length);
+            header.putInt(MappedIntSet.H_BODY_CRC, out.bodyChecksum());
+            out.commit(header);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Puts a Bloom filter in front of {@code contains}, so most lookups of absent keys
+     * return after checking one cache line of the filter. The filter is rebuilt from the
+     * table on every resize, which also drops bits left behind by removals.
+     */
+    public void enableBloomFilter(double falsePositiveRate) {
+        buildBloomFilter(falsePositiveRate);
+    }
+
+    // enableBloomFilter's body, private so the copy constructor doesn't call an overridable method
+    private void buildBloomFilter(double falsePositiveRate) {
+        BloomFilter previous = bloom;
+        bloom = new BloomFilter(maxFill, falsePositiveRate);
+        if (previous != null) bloom.inheritStats(previous);
+        for (int k : table) {
+            if (k != 0) bloom.put(k);
+        }
+    }
+
+    public void disableBloomFilter() {
+        bloom = null;
+    }
+
+    /**
+     * The current filter, for its hit and false-positive counters; null if disabled.
+     */
+    public BloomFilter bloomFilter() {
+        return bloom;
+    }
+
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int[] t = table;
+        int i = mix(value) & mask;
+        int k;
+        while ((k = t[i]) != 0) {
+            if (k == value) return false;
+            i = (i + 1) & mask;
+        }
+        t[i] = value;
+        if (bloom != null) bloom.put(value);
+        if (++size >= maxFill) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) return containsZero;
+        if (bloom != null && !bloom.mightContain(value)) return false;
+        int[] t = table;
+        int i = mix(value) & mask;
+        int k;
+        while ((k = t[i]) != 0) {
+            if (k == value) return true;
+            i = (i + 1) & mask;
+        }
+        if (bloom != null) bloom.recordFalsePositive();
+        return false;
+    }
+
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!containsZero) return false;
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int[] t = table;
+        int i = mix(value) & mask;
+        int k;
+        while ((k = t[i]) != 0) {
+            if (k == value) {
+                shiftBack(i);
+                size--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        if (bloom != null) bloom.clear();
+        containsZero = false;
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (containsZero) action.accept(0);
+        for (int k : table) {
+            if (k != 0) action.accept(k);
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        if (containsZero) result[n++] = 0;
+        // branch-free compaction of the occupied slots; a half-full table would
+        // otherwise mispredict on almost every slot
+        Functions.select(table, 0, table.length, k -> k != 0, result, n);
+        return result;
+    }
+
+    public IntStream stream() {
+        return IntStream.of(toArray());
+    }
+
+    /**
+     * Removes every element matching the filter. Elements are collected first,
+     * because backward-shift deletion moves entries while the table is scanned.
+     */
+    public boolean removeIf(IntPredicate filter) {
+        int before = size;
+        for (int value : toArray()) {
+            if (filter.test(value)) remove(value);
+        }
+        return size != before;
+    }
+
+    // ----- set operations, mirroring Set.addAll / retainAll / removeAll / containsAll -----
+
+    /**
+     * Union: adds every element of {@code other} to this set.
+     */
+    public boolean addAll(IntHashSet other) {
+        int before = size;
+        if (other.containsZero) add(0);
+        for (int k : other.table) {
+            if (k != 0) add(k);
+        }
+        return size != before;
+    }
+
+    /**
+     * Intersection: keeps only the elements also contained in {@code other}.
+     */
+    public boolean retainAll(IntHashSet other) {
+        return removeIf(value -> !other.contains(value));
+    }
+
+    /**
+     * Difference: removes every element contained in {@code other}.
+     */
+    public boolean removeAll(IntHashSet other) {
+        if (other.size < size) {
+            int before = size;
+            other.forEach(this::remove);
+            return size != before;
+        }
+        return removeIf(other::contains);
+    }
+
+    /**
+     * Subset check: true if every element of {@code other} is in this set.
+     */
+    public boolean containsAll(IntHashSet other) {
+        if (other.containsZero && !containsZero) return false;
+        for (int k : other.table) {
+            if (k != 0 && !contains(k)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntHashSet)) return false;
+        IntHashSet other = (IntHashSet) o;
+        return size == other.size && containsAll(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // same as Set.hashCode() over boxed Integers: the sum of the element hashes
+        int h = 0;
+        for (int k : table) {
+            h += k;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        forEach(value -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(value);
+        });
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Closes the gap left at {@code slot} by pulling back later entries of the same
+     * probe run, so lookups never stop early at a hole.
+     */
+    private void shiftBack(int slot) {
+        int[] t = table;
+        int last = slot;
+        int i = (slot + 1) & mask;
+        int k;
+        while ((k = t[i]) != 0) {
+            int home = mix(k) & mask;
+            // move k back unless its home lies cyclically in (last, i]
+            if (last <= i ? (home <= last || home > i) : (home <= last && home > i)) {
+                t[last] = k;
+                last = i;
+            }
+            i = (i + 1) & mask;
+        }
+        t[last] = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] old = table;
+        allocate(newCapacity);
+        int[] t = table;
+        for (int k : old) {
+            if (k != 0) {
+                int i = mix(k) & mask;
+                while (t[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                t[i] = k;
+            }
+        }
+        if (bloom != null) {
+            enableBloomFilter(bloom.targetFalsePositiveRate());
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * loadFactor));
+    }
+
+    /**
+     * Smallest power of two whose load-factor threshold exceeds {@code expected}.
+     */
+    private static int tableSizeFor(int expected, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expected, 1) / (double) loadFactor) + 1;
+        int capacity = 2;
+        while (capacity < needed && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Spreads the bits so sequential IDs don't form long probe runs (Fibonacci hashing).
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,66 @@
+package HashSet;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Throughput benchmark across thread counts for a dedupe-style workload
+ * (80% contains, 15% add, 5% remove) on a shared set.
+ */
+public class MainConcurrentStripedHashSet {
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int opsPerThread = 2_000_000;
+        int keySpace = 1 << 20;
+
+        System.out.printf("%-30s %8s %12s%n", "set", "threads", "ops/ms");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            run("synchronizedSet(HashSet)", () -> Collections.synchronizedSet(new HashSet<>()), threads, opsPerThread, keySpace);
+            run("ConcurrentHashMap.newKeySet", ConcurrentHashMap::newKeySet, threads, opsPerThread, keySpace);
+            run("ConcurrentStripedHashSet", ConcurrentStripedHashSet::new, threads, opsPerThread, keySpace);
+        }
+
+        // the same API as _HashSet demonstrates: capacity + load factor, removeIf, streams
+        Set<Integer> set = new ConcurrentStripedHashSet<>(64, 0.5f);
+        for (int i = 0; i < 10; i++) {
+            set.add(i);
+        }
+        set.removeIf(i -> i % 2 == 0);
+        System.out.println("Odd values: " + set.stream().sorted().toList());
+    }
+
+    private static void run(String name, Supplier<Set<Integer>> factory, int threads, int opsPerThread, int keySpace)
+            throws InterruptedException {
+        Set<Integer> set = factory.get();
+        for (int i = 0; i < keySpace / 2; i++) {
+            set.add(i * 2);
+        }
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < opsPerThread; i++) {
+                    Integer key = random.nextInt(keySpace);
+                    int op = random.nextInt(100);
+                    if (op < 80) {
+                        set.contains(key);
+                    } else if (op < 95) {
+                        set.add(key);
+                    } else {
+                        set.remove(key);
+                    }
+                }
+            });
+        }
+        long start = System.nanoTime();
+        for (Thread w : workers) w.start();
+        for (Thread w : workers) w.join();
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        System.out.printf("%-30s %8d %12d%n", name, threads, (long) threads * opsPerThread / elapsedMs);
+    }
+}
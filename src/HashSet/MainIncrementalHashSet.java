@@ -0,0 +1,44 @@
+package HashSet;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Latency benchmark: grows a set to several million elements and records the slowest
+ * single {@code add}, which for {@code java.util.HashSet} is the add that triggers a resize.
+ * Run with a large young generation (e.g. {@code -Xms3g -Xmx3g -Xmn2g}) so GC pauses
+ * don't drown out the resize pauses.
+ */
+public class MainIncrementalHashSet {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        Integer[] keys = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i * 31;
+        }
+
+        // run each twice so the second round is JIT-compiled
+        for (int round = 1; round <= 2; round++) {
+            System.out.println("Round " + round);
+            measure("java.util.HashSet", new HashSet<>(), keys);
+            measure("IncrementalHashSet", new IncrementalHashSet<>(), keys);
+        }
+    }
+
+    private static void measure(String name, Set<Integer> set, Integer[] keys) {
+        long worst = 0;
+        long over100us = 0;
+        long start = System.nanoTime();
+        for (Integer key : keys) {
+            long t = System.nanoTime();
+            set.add(key);
+            long elapsed = System.nanoTime() - t;
+            if (elapsed > worst) worst = elapsed;
+            if (elapsed > 100_000) over100us++;
+        }
+        long totalMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("  %-20s total %5d ms, worst add %8.3f ms, adds over 100us: %d%n",
+                name, totalMs, worst / 1e6, over100us);
+    }
+}
@@ -0,0 +1,50 @@
+package HashSet;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Handing out read views: cloning a HashSet for every reader versus sharing
+ * PersistentHashSet versions.
+ */
+public class MainPersistentHashSet {
+
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args) {
+        PersistentHashSet<String> fruits = PersistentHashSet.of("Apple", "Banana", "Cherry");
+        PersistentHashSet<String> snapshot = fruits;
+        fruits = fruits.plus("Date").minus("Banana");
+        System.out.println("Snapshot: " + snapshot);
+        System.out.println("Current: " + fruits);
+
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int views = 100;
+
+        long start = System.nanoTime();
+        HashSet<Integer> set = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            set.add(i);
+        }
+        long hits = 0;
+        for (int v = 0; v < views; v++) {
+            set.add(n + v);
+            Set<Integer> view = (Set<Integer>) set.clone();
+            if (view.contains(n + v)) hits++;
+        }
+        System.out.printf("HashSet clones:           %5d ms (%d)%n", (System.nanoTime() - start) / 1_000_000, hits);
+
+        start = System.nanoTime();
+        PersistentHashSet.Transient<Integer> builder = PersistentHashSet.<Integer>empty().asTransient();
+        for (int i = 0; i < n; i++) {
+            builder.add(i);
+        }
+        PersistentHashSet<Integer> persistent = builder.persistent();
+        hits = 0;
+        for (int v = 0; v < views; v++) {
+            persistent = persistent.plus(n + v);
+            Set<Integer> view = persistent;
+            if (view.contains(n + v)) hits++;
+        }
+        System.out.printf("PersistentHashSet views:  %5d ms (%d)%n", (System.nanoTime() - start) / 1_000_000, hits);
+    }
+}
@@ -0,0 +1,59 @@
+package HashSet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Startup cost of rebuilding a dedupe set versus reopening a memory-mapped snapshot,
+ * for both primitive ints and strings.
+ */
+public class MainSetSnapshot {
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Path dir = Files.createTempDirectory("set-snapshot");
+        Path intFile = dir.resolve("ids.ihs");
+        Path stringFile = dir.resolve("keys.shs");
+
+        long start = System.nanoTime();
+        IntHashSet ids = new IntHashSet();
+        for (int i = 0; i < n; i++) {
+            ids.add(i * 7);
+        }
+        System.out.printf("IntHashSet rebuild:        %6d ms%n", (System.nanoTime() - start) / 1_000_000);
+        ids.snapshot(intFile);
+
+        start = System.nanoTime();
+        MappedIntSet mappedIds = MappedIntSet.open(intFile);
+        System.out.printf("MappedIntSet.open:         %6d ms%n", (System.nanoTime() - start) / 1_000_000);
+        System.out.println("  contains(70)? " + mappedIds.contains(70) + ", contains(71)? " + mappedIds.contains(71)
+                + ", size " + mappedIds.size() + ", checksum ok " + mappedIds.verify());
+
+        start = System.nanoTime();
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            keys.add("user-" + i);
+        }
+        System.out.printf("HashSet<String> rebuild:   %6d ms%n", (System.nanoTime() - start) / 1_000_000);
+        MappedStringSet.snapshot(keys, stringFile);
+
+        start = System.nanoTime();
+        MappedStringSet mappedKeys = MappedStringSet.open(stringFile);
+        System.out.printf("MappedStringSet.open:      %6d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < n; i += 2) {
+            if (mappedKeys.contains("user-" + i)) hits++;
+            if (mappedKeys.contains("guest-" + i)) hits++;
+        }
+        System.out.printf("%d mapped lookups:    %6d ms (%d hits)%n", n, (System.nanoTime() - start) / 1_000_000, hits);
+        System.out.println("  snapshot bytes: " + Files.size(stringFile) + ", checksum ok " + mappedKeys.verify());
+
+        Files.delete(intFile);
+        Files.delete(stringFile);
+        Files.delete(dir);
+    }
+}
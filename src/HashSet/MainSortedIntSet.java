@@ -0,0 +1,66 @@
+package HashSet;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Compares bulk set algebra on SortedIntSet against HashSet's
+ * retainAll / addAll / removeAll / containsAll.
+ */
+public class MainSortedIntSet {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Random random = new Random(42);
+        int[] a = random.ints(n, 0, 4 * n).toArray();
+        int[] b = random.ints(n, 0, 4 * n).toArray();
+        int[] few = random.ints(n / 1000, 0, 4 * n).toArray();
+
+        SortedIntSet sa = SortedIntSet.of(a);
+        SortedIntSet sb = SortedIntSet.of(b);
+        SortedIntSet sFew = SortedIntSet.of(few);
+        Set<Integer> ha = boxed(a);
+        Set<Integer> hb = boxed(b);
+        Set<Integer> hFew = boxed(few);
+
+        for (int round = 1; round <= 3; round++) {
+            System.out.println("Round " + round);
+            time("HashSet retainAll", () -> copy(ha).retainAll(hb));
+            time("SortedIntSet intersection", () -> sa.intersection(sb));
+            time("HashSet addAll", () -> copy(ha).addAll(hb));
+            time("SortedIntSet union", () -> sa.union(sb));
+            time("HashSet removeAll", () -> copy(ha).removeAll(hb));
+            time("SortedIntSet difference", () -> sa.difference(sb));
+            time("HashSet retainAll (small)", () -> copy(hFew).retainAll(ha));
+            time("SortedIntSet intersection (galloping)", () -> sFew.intersection(sa));
+            time("HashSet containsAll", () -> ha.containsAll(hFew));
+            time("SortedIntSet containsAll", () -> sa.containsAll(sFew));
+        }
+        System.out.println("Results agree? " + (sa.intersection(sb).size() == intersect(ha, hb).size()));
+    }
+
+    private static Set<Integer> boxed(int[] values) {
+        Set<Integer> set = new HashSet<>();
+        for (int v : values) {
+            set.add(v);
+        }
+        return set;
+    }
+
+    private static Set<Integer> copy(Set<Integer> set) {
+        return new HashSet<>(set);
+    }
+
+    private static Set<Integer> intersect(Set<Integer> a, Set<Integer> b) {
+        Set<Integer> result = copy(a);
+        result.retainAll(b);
+        return result;
+    }
+
+    private static void time(String name, Runnable op) {
+        long start = System.nanoTime();
+        op.run();
+        System.out.printf("  %-40s %8.2f ms%n", name, (System.nanoTime() - start) / 1e6);
+    }
+}
@@ -0,0 +1,119 @@
+package HashSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+/**
+ * A read-only view of an {@link IntHashSet} snapshot, serving {@code contains} straight
+ * from the memory-mapped table.
+ *
+ * <p>The snapshot is the set's open-addressing table written out as-is, so opening it is
+ * O(1): the header is checked, the table is mapped, and lookups probe the mapped ints
+ * with the same hash as {@code IntHashSet}. Pages are faulted in on first touch, which
+ * also lets several processes share one copy through the page cache.
+ *
+ * <p>File layout (little-endian), 32-byte header then the table:
+ * <pre>
+ *   0  magic "IHS1"      4  version          8  flags (bit 0: contains 0)
+ *  12  load factor      16  size            20  table length (power of two)
+ *  24  body CRC32C      28  header CRC32C
+ *  32  int[table length], 0 = empty slot
+ * </pre>
+ * {@link #open} only validates the header; call {@link #verify} to check the table too.
+ * The mapping stays valid until this object is garbage collected.
+ */
+public final class MappedIntSet {
+
+    static final int MAGIC = 0x31534849;   // "IHS1"
+    static final int VERSION = 1;
+    static final int HEADER = 32;
+
+    // header layout
+    static final int H_FLAGS = 8;
+    static final int H_LOAD_FACTOR = 12;
+    static final int H_SIZE = 16;
+    static final int H_CAPACITY = 20;
+    static final int H_BODY_CRC = 24;
+
+    private final MappedRegion table;
+    private final int mask;
+    private final int size;
+    private final boolean containsZero;
+    private final float loadFactor;
+    private final int bodyChecksum;
+
+    private MappedIntSet(FileChannel channel) throws IOException {
+        ByteBuffer header = MappedRegion.readHeader(channel, HEADER, MAGIC, VERSION, "IntHashSet");
+        int capacity = header.getInt(H_CAPACITY);
+        if (Integer.bitCount(capacity) != 1 || channel.size() != HEADER + (long) capacity * Integer.BYTES) {
+            throw new IOException("truncated IntHashSet snapshot");
+        }
+        this.mask = capacity - 1;
+        this.size = header.getInt(H_SIZE);
+        this.containsZero = (header.getInt(H_FLAGS) & 1) != 0;
+        this.loadFactor = header.getFloat(H_LOAD_FACTOR);
+        this.bodyChecksum = header.getInt(H_BODY_CRC);
+        this.table = new MappedRegion(channel, HEADER, (long) capacity * Integer.BYTES);
+    }
+
+    /**
+     * Maps a snapshot written by {@link IntHashSet#snapshot(Path)}.
+     */
+    public static MappedIntSet open(Path file) {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedIntSet(ch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) return containsZero;
+        int i = IntHashSet.mix(value) & mask;
+        int k;
+        while ((k = table.getInt((long) i << 2)) != 0) {
+            if (k == value) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (containsZero) action.accept(0);
+        for (long i = 0; i <= mask; i++) {
+            int k = table.getInt(i << 2);
+            if (k != 0) action.accept(k);
+        }
+    }
+
+    /**
+     * Copies the mapped table into a new, mutable {@code IntHashSet} without rehashing.
+     */
+    public IntHashSet toIntHashSet() {
+        int[] copy = new int[mask + 1];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = table.getInt((long) i << 2);
+        }
+        return new IntHashSet(copy, size, containsZero, loadFactor);
+    }
+
+    /**
+     * Recomputes the table checksum against the header; reads the whole file.
+     */
+    public boolean verify() {
+        return table.checksum() == bodyChecksum;
+    }
+}
@@ -0,0 +1,99 @@
+package HashSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * A read-only, memory-mapped byte range of a snapshot file, addressed with {@code long}
+ * offsets so bodies larger than the 2 GB limit of a single {@link ByteBuffer} work too.
+ *
+ * <p>The range is mapped in 1 GB chunks. Each chunk overlaps the next by eight bytes, so
+ * an {@code int} or {@code long} read never straddles two chunks.
+ */
+final class MappedRegion {
+
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK = 1L << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = (int) (CHUNK - 1);
+    private static final int OVERLAP = Long.BYTES;
+
+    private final ByteBuffer[] chunks;
+    private final long length;
+
+    MappedRegion(FileChannel channel, long position, long length) throws IOException {
+        this.length = length;
+        this.chunks = new ByteBuffer[(int) ((length + CHUNK - 1) >>> CHUNK_SHIFT)];
+        for (int i = 0; i < chunks.length; i++) {
+            long start = (long) i << CHUNK_SHIFT;
+            long size = Math.min(length - start, CHUNK + OVERLAP);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + start, size)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    byte getByte(long pos) {
+        return chunks[(int) (pos >>> CHUNK_SHIFT)].get((int) pos & CHUNK_MASK);
+    }
+
+    int getInt(long pos) {
+        return chunks[(int) (pos >>> CHUNK_SHIFT)].getInt((int) pos & CHUNK_MASK);
+    }
+
+    long getLong(long pos) {
+        return chunks[(int) (pos >>> CHUNK_SHIFT)].getLong((int) pos & CHUNK_MASK);
+    }
+
+    /** True if the {@code bytes.length} bytes at {@code pos} equal {@code bytes}. */
+    boolean matches(long pos, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (getByte(pos + i) != bytes[i]) return false;
+        }
+        return true;
+    }
+
+    byte[] getBytes(long pos, int len) {
+        byte[] bytes = new byte[len];
+        for (int i = 0; i < len; i++) {
+            bytes[i] = getByte(pos + i);
+        }
+        return bytes;
+    }
+
+    /** CRC32C of the whole range; reads every page, so O(length). */
+    int checksum() {
+        CRC32C crc = new CRC32C();
+        for (int i = 0; i < chunks.length; i++) {
+            long start = (long) i << CHUNK_SHIFT;
+            int len = (int) Math.min(length - start, CHUNK);
+            crc.update(chunks[i].duplicate().clear().limit(len));
+        }
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Reads and validates a header written by {@link SnapshotWriter}: magic, version and
+     * the header's own checksum in its last four bytes.
+     */
+    static ByteBuffer readHeader(FileChannel channel, int bytes, int magic, int version, String kind)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("not a " + kind + " snapshot: file too short");
+            }
+        }
+        if (header.getInt(0) != magic) {
+            throw new IOException("not a " + kind + " snapshot");
+        }
+        if (header.getInt(4) != version) {
+            throw new IOException("unsupported " + kind + " snapshot version " + header.getInt(4));
+        }
+        if (header.getInt(bytes - Integer.BYTES) != SnapshotWriter.headerChecksum(header)) {
+            throw new IOException("corrupt " + kind + " snapshot header");
+        }
+        return header;
+    }
+}
@@ -0,0 +1,204 @@
+package HashSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A read-only set of strings served from a memory-mapped snapshot file.
+ *
+ * <p>{@link #snapshot(Set, Path)} writes any set of strings as an open-addressing table of
+ * (hash, offset) slots next to the UTF-8 bytes of the strings. {@link #open(Path)} maps
+ * the file and probes that table directly, so reopening a multi-GB set costs a header
+ * check rather than a rebuild; only the slots and strings a lookup touches are read.
+ * Slots store {@code String.hashCode()}, which the language spec fixes, so a snapshot
+ * stays valid across JVMs. The query string is encoded only once its hash matches a slot.
+ *
+ * <p>File layout (little-endian), 32-byte header then the body:
+ * <pre>
+ *   0  magic "SHS1"      4  version          8  size            12  table length
+ *  16  data bytes       24  body CRC32C     28  header CRC32C
+ *  32  data:    per string, int length + UTF-8 bytes; padded to 8 bytes
+ *      hashes:  int[table length]
+ *      offsets: long[table length], offset into data + 1, 0 = empty slot
+ * </pre>
+ * {@link #open} only validates the header; call {@link #verify} to check the body too.
+ * The mapping stays valid until this object is garbage collected.
+ */
+public final class MappedStringSet extends AbstractSet<String> {
+
+    private static final int MAGIC = 0x31534853;   // "SHS1"
+    private static final int VERSION = 1;
+    private static final int HEADER = 32;
+
+    // header layout
+    private static final int H_SIZE = 8;
+    private static final int H_CAPACITY = 12;
+    private static final int H_DATA_BYTES = 16;
+    private static final int H_BODY_CRC = 24;
+
+    private final MappedRegion body;
+    private final int mask;
+    private final int size;
+    private final long hashesAt;
+    private final long offsetsAt;
+    private final int bodyChecksum;
+
+    private MappedStringSet(FileChannel channel) throws IOException {
+        ByteBuffer header = MappedRegion.readHeader(channel, HEADER, MAGIC, VERSION, "string set");
+        int capacity = header.getInt(H_CAPACITY);
+        long dataBytes = header.getLong(H_DATA_BYTES);
+        long bodyBytes = dataBytes + (long) capacity * (Integer.BYTES + Long.BYTES);
+        if (Integer.bitCount(capacity) != 1 || dataBytes < 0 || dataBytes % 8 != 0
+                || channel.size() != HEADER + bodyBytes) {
+            throw new IOException("truncated string set snapshot");
+        }
+        this.mask = capacity - 1;
+        this.size = header.getInt(H_SIZE);
+        this.hashesAt = dataBytes;
+        this.offsetsAt = dataBytes + (long) capacity * Integer.BYTES;
+        this.bodyChecksum = header.getInt(H_BODY_CRC);
+        this.body = new MappedRegion(channel, HEADER, bodyBytes);
+    }
+
+    /**
+     * Maps a snapshot written by {@link #snapshot(Set, Path)}.
+     */
+    public static MappedStringSet open(Path file) {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedStringSet(ch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes {@code set} to {@code file}, in one pass over the set. The table is sized
+     * to half full, since the file never grows. Null elements are not permitted.
+     */
+    public static void snapshot(Set<String> set, Path file) {
+        int[] hashes = new int[Math.max(set.size(), 1)];
+        long[] offsets = new long[hashes.length];
+        int n = 0;
+        try (SnapshotWriter out = new SnapshotWriter(file, HEADER)) {
+            for (String s : set) {
+                byte[] utf8 = Objects.requireNonNull(s, "null element").getBytes(StandardCharsets.UTF_8);
+                if (n == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, n * 2);
+                    offsets = Arrays.copyOf(offsets, n * 2);
+                }
+                hashes[n] = s.hashCode();
+                offsets[n++] = out.position() + 1;
+                out.putInt(utf8.length);
+                out.putBytes(utf8);
+            }
+            out.align(Long.BYTES);
+            long dataBytes = out.position();
+
+            if (n >= (1 << 30)) {
+                throw new IllegalArgumentException("Set too large for a snapshot: " + n);
+            }
+            int capacity = 2;
+            while (capacity < 2L * n && capacity < (1 << 30)) {
+                capacity <<= 1;
+            }
+            int[] slotHashes = new int[capacity];
+            long[] slotOffsets = new long[capacity];
+            for (int j = 0; j < n; j++) {
+                int i = IntHashSet.mix(hashes[j]) & (capacity - 1);
+                while (slotOffsets[i] != 0) {
+                    i = (i + 1) & (capacity - 1);
+                }
+                slotHashes[i] = hashes[j];
+                slotOffsets[i] = offsets[j];
+            }
+            for (int h : slotHashes) {
+                out.putInt(h);
+            }
+            for (long off : slotOffsets) {
+                out.putLong(off);
+            }
+
+            ByteBuffer header = SnapshotWriter.header(HEADER, MAGIC, VERSION);
+            header.putInt(H_SIZE, n);
+            header.putInt(H_CAPACITY, capacity);
+            header.putLong(H_DATA_BYTES, dataBytes);
+            header.putInt(H_BODY_CRC, out.bodyChecksum());
+            out.commit(header);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String)) return false;
+        String s = (String) o;
+        int hash = s.hashCode();
+        int i = IntHashSet.mix(hash) & mask;
+        byte[] utf8 = null;
+        long off;
+        while ((off = body.getLong(offsetsAt + ((long) i << 3))) != 0) {
+            if (body.getInt(hashesAt + ((long) i << 2)) == hash) {
+                if (utf8 == null) utf8 = s.getBytes(StandardCharsets.UTF_8);
+                if (body.getInt(off - 1) == utf8.length && body.matches(off - 1 + Integer.BYTES, utf8)) {
+                    return true;
+                }
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Iterates in table order, decoding each string from the mapped bytes.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private long slot = advance(0);
+
+            private long advance(long from) {
+                while (from <= mask && body.getLong(offsetsAt + (from << 3)) == 0) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return slot <= mask;
+            }
+
+            @Override
+            public String next() {
+                if (slot > mask) throw new NoSuchElementException();
+                long off = body.getLong(offsetsAt + (slot << 3)) - 1;
+                slot = advance(slot + 1);
+                return new String(body.getBytes(off + Integer.BYTES, body.getInt(off)), StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Recomputes the body checksum against the header; reads the whole file.
+     */
+    public boolean verify() {
+        return body.checksum() == bodyChecksum;
+    }
+}
@@ -0,0 +1,503 @@
+package HashSet;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable hash set that shares structure between versions: a hash array mapped
+ * trie (HAMT) in the compact CHAMP layout.
+ *
+ * <p>Each node consumes 5 bits of the hash and keeps two bitmaps, one for elements stored
+ * inline and one for child nodes, so it holds only the slots it uses. A snapshot is the
+ * reference itself, with no {@code clone()}. {@link #plus} and {@link #minus} copy just
+ * the path from the root to the changed node, at most 7 small arrays. Elements whose
+ * full 32-bit hashes collide share a collision node at the bottom.
+ *
+ * <p>For bulk construction use {@link #asTransient()}: the builder edits the nodes it
+ * created in place and turns back into a persistent set in O(1).
+ *
+ * <p>The {@code java.util.Set} mutators throw {@code UnsupportedOperationException}.
+ * Null elements are allowed.
+ */
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+
+    private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(new BitmapNode(null, 0, 0, new Object[0]), 0);
+
+    private final Node root;
+    private final int size;
+    private int hashCode;     // cached, the set never changes
+
+    private PersistentHashSet(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> empty() {
+        return (PersistentHashSet<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentHashSet<E> of(E... elements) {
+        Transient<E> builder = PersistentHashSet.<E>empty().asTransient();
+        for (E e : elements) {
+            builder.add(e);
+        }
+        return builder.persistent();
+    }
+
+    public static <E> PersistentHashSet<E> copyOf(Collection<? extends E> c) {
+        if (c instanceof PersistentHashSet) {
+            @SuppressWarnings("unchecked")
+            PersistentHashSet<E> set = (PersistentHashSet<E>) c;
+            return set;
+        }
+        Transient<E> builder = PersistentHashSet.<E>empty().asTransient();
+        for (E e : c) {
+            builder.add(e);
+        }
+        return builder.persistent();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return root.contains(o, hash(o), 0);
+    }
+
+    /**
+     * Returns a set that also contains {@code e}; this set if it already did.
+     */
+    public PersistentHashSet<E> plus(E e) {
+        Change change = new Change();
+        Node newRoot = root.insert(null, e, hash(e), 0, change);
+        return change.modified ? new PersistentHashSet<>(newRoot, size + 1) : this;
+    }
+
+    /**
+     * Returns a set without {@code o}; this set if it did not contain it.
+     */
+    public PersistentHashSet<E> minus(Object o) {
+        Change change = new Change();
+        Node newRoot = root.remove(null, o, hash(o), 0, change);
+        return change.modified ? new PersistentHashSet<>(newRoot, size - 1) : this;
+    }
+
+    /**
+     * A mutable builder starting from this set's contents, in O(1). This set is not
+     * affected by anything done through the builder.
+     */
+    public Transient<E> asTransient() {
+        return new Transient<>(root, size);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr<>(root);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hashCode;
+        if (h == 0 && size > 0) {
+            h = hashCode = super.hashCode();
+        }
+        return h;
+    }
+
+    static int hash(Object o) {
+        return IncrementalHashSet.hash(o);
+    }
+
+    private static int fragment(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    /** Set by insert/remove when the element count changed. */
+    private static final class Change {
+        boolean modified;
+    }
+
+    private abstract static class Node {
+        abstract boolean contains(Object key, int hash, int shift);
+
+        abstract Node insert(Object owner, Object key, int hash, int shift, Change change);
+
+        abstract Node remove(Object owner, Object key, int hash, int shift, Change change);
+
+        abstract int payloadArity();
+
+        abstract int nodeArity();
+
+        abstract Object key(int i);
+
+        abstract Node node(int i);
+    }
+
+    /**
+     * Inline elements occupy {@code content[0, payloadArity)} in bit order; child nodes
+     * are stored from the end of the array backwards.
+     */
+    private static final class BitmapNode extends Node {
+        final Object edit;
+        int dataMap;
+        int nodeMap;
+        Object[] content;
+
+        BitmapNode(Object edit, int dataMap, int nodeMap, Object[] content) {
+            this.edit = edit;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @Override
+        boolean contains(Object key, int hash, int shift) {
+            int bit = 1 << fragment(hash, shift);
+            if ((dataMap & bit) != 0) {
+                return Objects.equals(content[dataIndex(bit)], key);
+            }
+            if ((nodeMap & bit) != 0) {
+                return nodeAt(bit).contains(key, hash, shift + BITS);
+            }
+            return false;
+        }
+
+        @Override
+        Node insert(Object owner, Object key, int hash, int shift, Change change) {
+            int bit = 1 << fragment(hash, shift);
+            if ((dataMap & bit) != 0) {
+                Object existing = content[dataIndex(bit)];
+                if (Objects.equals(existing, key)) return this;
+                Node sub = merge(owner, existing, hash(existing), key, hash, shift + BITS);
+                change.modified = true;
+                return migrateInlineToNode(owner, bit, sub);
+            }
+            if ((nodeMap & bit) != 0) {
+                Node child = nodeAt(bit);
+                Node sub = child.insert(owner, key, hash, shift + BITS, change);
+                return sub == child ? this : setNode(owner, bit, sub);
+            }
+            change.modified = true;
+            return insertInline(owner, bit, key);
+        }
+
+        @Override
+        Node remove(Object owner, Object key, int hash, int shift, Change change) {
+            int bit = 1 << fragment(hash, shift);
+            if ((dataMap & bit) != 0) {
+                if (!Objects.equals(content[dataIndex(bit)], key)) return this;
+                change.modified = true;
+                return removeInline(owner, bit);
+            }
+            if ((nodeMap & bit) != 0) {
+                Node child = nodeAt(bit);
+                Node sub = child.remove(owner, key, hash, shift + BITS, change);
+                if (sub == child) return this;
+                // keep the trie canonical: a child left with one element is pulled up
+                if (sub.nodeArity() == 0 && sub.payloadArity() == 1) {
+                    return migrateNodeToInline(owner, bit, sub.key(0));
+                }
+                return setNode(owner, bit, sub);
+            }
+            return this;
+        }
+
+        @Override
+        int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        Object key(int i) {
+            return content[i];
+        }
+
+        @Override
+        Node node(int i) {
+            return (Node) content[content.length - 1 - i];
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeSlot(int bit) {
+            return content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        private Node nodeAt(int bit) {
+            return (Node) content[nodeSlot(bit)];
+        }
+
+        /** Applies an edit in place if {@code owner} owns this node, else to a copy. */
+        private BitmapNode update(Object owner, int newDataMap, int newNodeMap, Object[] newContent) {
+            if (owner != null && owner == edit) {
+                dataMap = newDataMap;
+                nodeMap = newNodeMap;
+                content = newContent;
+                return this;
+            }
+            return new BitmapNode(owner, newDataMap, newNodeMap, newContent);
+        }
+
+        private BitmapNode setNode(Object owner, int bit, Node sub) {
+            int slot = nodeSlot(bit);
+            if (owner != null && owner == edit) {
+                content[slot] = sub;
+                return this;
+            }
+            Object[] copy = content.clone();
+            copy[slot] = sub;
+            return new BitmapNode(owner, dataMap, nodeMap, copy);
+        }
+
+        private BitmapNode insertInline(Object owner, int bit, Object key) {
+            int i = dataIndex(bit);
+            Object[] copy = new Object[content.length + 1];
+            System.arraycopy(content, 0, copy, 0, i);
+            copy[i] = key;
+            System.arraycopy(content, i, copy, i + 1, content.length - i);
+            return update(owner, dataMap | bit, nodeMap, copy);
+        }
+
+        private BitmapNode removeInline(Object owner, int bit) {
+            int i = dataIndex(bit);
+            Object[] copy = new Object[content.length - 1];
+            System.arraycopy(content, 0, copy, 0, i);
+            System.arraycopy(content, i + 1, copy, i, content.length - i - 1);
+            return update(owner, dataMap ^ bit, nodeMap, copy);
+        }
+
+        private BitmapNode migrateInlineToNode(Object owner, int bit, Node sub) {
+            int from = dataIndex(bit);
+            // node slot counted in the new array, which has the same length
+            int to = content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+            Object[] copy = new Object[content.length];
+            System.arraycopy(content, 0, copy, 0, from);
+            System.arraycopy(content, from + 1, copy, from, to - from);
+            copy[to] = sub;
+            System.arraycopy(content, to + 1, copy, to + 1, content.length - to - 1);
+            return update(owner, dataMap ^ bit, nodeMap | bit, copy);
+        }
+
+        private BitmapNode migrateNodeToInline(Object owner, int bit, Object key) {
+            int from = nodeSlot(bit);
+            int to = dataIndex(bit);
+            Object[] copy = new Object[content.length];
+            System.arraycopy(content, 0, copy, 0, to);
+            copy[to] = key;
+            System.arraycopy(content, to, copy, to + 1, from - to);
+            System.arraycopy(content, from + 1, copy, from + 1, content.length - from - 1);
+            return update(owner, dataMap | bit, nodeMap ^ bit, copy);
+        }
+    }
+
+    /**
+     * Elements whose full hashes are equal, below the last level of the trie.
+     */
+    private static final class CollisionNode extends Node {
+        final int hash;
+        final Object[] keys;
+
+        CollisionNode(int hash, Object[] keys) {
+            this.hash = hash;
+            this.keys = keys;
+        }
+
+        @Override
+        boolean contains(Object key, int hash, int shift) {
+            return this.hash == hash && indexOf(key) >= 0;
+        }
+
+        @Override
+        Node insert(Object owner, Object key, int hash, int shift, Change change) {
+            if (indexOf(key) >= 0) return this;
+            Object[] copy = Arrays.copyOf(keys, keys.length + 1);
+            copy[keys.length] = key;
+            change.modified = true;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        Node remove(Object owner, Object key, int hash, int shift, Change change) {
+            int i = indexOf(key);
+            if (i < 0) return this;
+            Object[] copy = new Object[keys.length - 1];
+            System.arraycopy(keys, 0, copy, 0, i);
+            System.arraycopy(keys, i + 1, copy, i, keys.length - i - 1);
+            change.modified = true;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        int payloadArity() {
+            return keys.length;
+        }
+
+        @Override
+        int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        Object key(int i) {
+            return keys[i];
+        }
+
+        @Override
+        Node node(int i) {
+            throw new IndexOutOfBoundsException(i);
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (Objects.equals(keys[i], key)) return i;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A node holding two distinct elements, split further down while their hash
+     * fragments agree.
+     */
+    private static Node merge(Object owner, Object k0, int h0, Object k1, int h1, int shift) {
+        if (shift >= HASH_BITS) {
+            return new CollisionNode(h0, new Object[]{k0, k1});
+        }
+        int f0 = fragment(h0, shift);
+        int f1 = fragment(h1, shift);
+        if (f0 != f1) {
+            Object[] content = f0 < f1 ? new Object[]{k0, k1} : new Object[]{k1, k0};
+            return new BitmapNode(owner, (1 << f0) | (1 << f1), 0, content);
+        }
+        Node sub = merge(owner, k0, h0, k1, h1, shift + BITS);
+        return new BitmapNode(owner, 0, 1 << f0, new Object[]{sub});
+    }
+
+    /**
+     * A single-threaded builder over the same trie. Nodes it creates carry its edit
+     * token and are updated in place; shared nodes are copied once, on first write.
+     * {@link #persistent()} ends the builder.
+     */
+    public static final class Transient<E> {
+        private Object owner = new Object();
+        private Node root;
+        private int size;
+
+        private Transient(Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        public boolean add(E e) {
+            ensureEditable();
+            Change change = new Change();
+            root = root.insert(owner, e, hash(e), 0, change);
+            if (change.modified) size++;
+            return change.modified;
+        }
+
+        public boolean remove(Object o) {
+            ensureEditable();
+            Change change = new Change();
+            root = root.remove(owner, o, hash(o), 0, change);
+            if (change.modified) size--;
+            return change.modified;
+        }
+
+        public boolean contains(Object o) {
+            ensureEditable();
+            return root.contains(o, hash(o), 0);
+        }
+
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        /**
+         * Freezes the contents into a persistent set in O(1); the builder cannot be
+         * used afterwards.
+         */
+        public PersistentHashSet<E> persistent() {
+            ensureEditable();
+            owner = null;
+            return new PersistentHashSet<>(root, size);
+        }
+
+        private void ensureEditable() {
+            if (owner == null) throw new IllegalStateException("Transient used after persistent()");
+        }
+    }
+
+    /**
+     * Depth-first: a node's inline elements, then its children. The stack is bounded by
+     * the trie depth.
+     */
+    private static final class Itr<E> implements Iterator<E> {
+        private final Node[] nodes = new Node[HASH_BITS / BITS + 2];
+        private final int[] cursors = new int[nodes.length];
+        private int depth;
+        private Node current;
+        private int payloadIndex;
+
+        Itr(Node root) {
+            current = root;
+            nodes[0] = root;
+            cursors[0] = 0;
+            seek();
+        }
+
+        /** Advances to the next node that still has inline elements to return. */
+        private void seek() {
+            while (current != null && payloadIndex >= current.payloadArity()) {
+                current = null;
+                while (depth >= 0) {
+                    Node node = nodes[depth];
+                    if (cursors[depth] < node.nodeArity()) {
+                        Node child = node.node(cursors[depth]++);
+                        nodes[++depth] = child;
+                        cursors[depth] = 0;
+                        current = child;
+                        payloadIndex = 0;
+                        break;
+                    }
+                    depth--;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (current == null) throw new NoSuchElementException();
+            E e = (E) current.key(payloadIndex++);
+            seek();
+            return e;
+        }
+    }
+}
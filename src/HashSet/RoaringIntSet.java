@@ -0,0 +1,793 @@
+package HashSet;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A compressed bitmap set of {@code int} values in the style of Roaring bitmaps.
+ *
+ * <p>The 32-bit space is split into 2^16 chunks keyed by the high 16 bits. Each
+ * non-empty chunk stores its low 16 bits in whichever container is smallest:
+ * <ul>
+ *   <li>an <b>array</b> container: a sorted {@code char[]}, for up to 4096 values,</li>
+ *   <li>a <b>bitmap</b> container: 1024 {@code long} words (8 KB), for denser chunks,</li>
+ *   <li>a <b>run</b> container: sorted (start, length) pairs, for long consecutive ranges;
+ *       produced by {@link #runOptimize()}.</li>
+ * </ul>
+ * A dense range of IDs therefore costs about one bit per value (or a few bytes per run)
+ * instead of a boxed {@code Integer} plus a {@code HashMap.Node} each. {@code and},
+ * {@code or} and {@code andNot} work chunk by chunk, and on bitmaps 64 values per word op.
+ *
+ * <p>Iteration is in unsigned order, so negative values come after all non-negative ones.
+ */
+public class RoaringIntSet {
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int chunks;
+
+    public RoaringIntSet() {
+    }
+
+    public static RoaringIntSet of(int... values) {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean add(int value) {
+        char high = (char) (value >>> 16);
+        int i = indexOf(high);
+        if (i < 0) {
+            i = -i - 1;
+            insertChunk(i, high, new ArrayContainer());
+        }
+        Container c = containers[i];
+        int before = c.cardinality();
+        containers[i] = c.add((char) value);
+        return containers[i].cardinality() != before;
+    }
+
+    /**
+     * Adds every value in [from, to), filling whole bitmap words at a time.
+     */
+    public void addRange(int from, int to) {
+        long start = from, end = to;
+        while (start < end) {
+            char high = (char) (start >>> 16);
+            long chunkEnd = Math.min(end, ((start >>> 16) + 1) << 16);
+            int i = indexOf(high);
+            if (i < 0) {
+                i = -i - 1;
+                insertChunk(i, high, new ArrayContainer());
+            }
+            BitmapContainer bitmap = containers[i].toBitmap();
+            bitmap.setRange((int) (start & 0xFFFF), (int) (chunkEnd - (start & ~0xFFFFL)));
+            containers[i] = bitmap.normalize();
+            start = chunkEnd;
+        }
+    }
+
+    public boolean contains(int value) {
+        int i = indexOf((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public boolean remove(int value) {
+        int i = indexOf((char) (value >>> 16));
+        if (i < 0) return false;
+        Container c = containers[i];
+        int before = c.cardinality();
+        Container updated = c.remove((char) value);
+        if (updated.cardinality() == 0) {
+            removeChunk(i);
+        } else {
+            containers[i] = updated;
+        }
+        return updated.cardinality() != before;
+    }
+
+    /**
+     * Number of values in the set.
+     */
+    public long cardinality() {
+        long total = 0;
+        for (int i = 0; i < chunks; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return chunks == 0;
+    }
+
+    /**
+     * Converts containers to run containers wherever that is smaller.
+     */
+    public void runOptimize() {
+        for (int i = 0; i < chunks; i++) {
+            containers[i] = containers[i].runOptimize();
+        }
+    }
+
+    /**
+     * Approximate heap footprint of the containers, in bytes.
+     */
+    public long sizeInBytes() {
+        long bytes = 16L + keys.length * 2L + containers.length * 4L;
+        for (int i = 0; i < chunks; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunks; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    public IntStream stream() {
+        IntStream.Builder builder = IntStream.builder();
+        forEach(builder);
+        return builder.build();
+    }
+
+    // ----- set operations, mirroring retainAll / addAll / removeAll -----
+
+    /**
+     * Intersection: values in both sets.
+     */
+    public RoaringIntSet and(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0, j = 0;
+        while (i < chunks && j < other.chunks) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container c = containers[i].and(other.containers[j]);
+                if (c.cardinality() > 0) result.appendChunk(keys[i], c);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Union: values in either set.
+     */
+    public RoaringIntSet or(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0, j = 0;
+        while (i < chunks || j < other.chunks) {
+            if (j == other.chunks || (i < chunks && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], containers[i].copy());
+                i++;
+            } else if (i == chunks || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Difference: values in this set but not in {@code other}.
+     */
+    public RoaringIntSet andNot(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int j = 0;
+        for (int i = 0; i < chunks; i++) {
+            while (j < other.chunks && other.keys[j] < keys[i]) j++;
+            Container c = j < other.chunks && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy();
+            if (c.cardinality() > 0) result.appendChunk(keys[i], c);
+        }
+        return result;
+    }
+
+    /**
+     * Subset check: true if every value of {@code other} is in this set.
+     */
+    public boolean containsAll(RoaringIntSet other) {
+        return other.andNot(this).isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RoaringIntSet)) return false;
+        RoaringIntSet other = (RoaringIntSet) o;
+        return cardinality() == other.cardinality() && containsAll(other);
+    }
+
+    @Override
+    public int hashCode() {
+        int[] h = new int[1];
+        forEach(value -> h[0] += value);
+        return h[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        forEach(value -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(value);
+        });
+        return sb.append(']').toString();
+    }
+
+    // ----- chunk index -----
+
+    private int indexOf(char high) {
+        return Arrays.binarySearch(keys, 0, chunks, high);
+    }
+
+    private void insertChunk(int i, char high, Container c) {
+        if (chunks == keys.length) {
+            keys = Arrays.copyOf(keys, chunks * 2);
+            containers = Arrays.copyOf(containers, chunks * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, chunks - i);
+        System.arraycopy(containers, i, containers, i + 1, chunks - i);
+        keys[i] = high;
+        containers[i] = c;
+        chunks++;
+    }
+
+    private void appendChunk(char high, Container c) {
+        insertChunk(chunks, high, c);
+    }
+
+    private void removeChunk(int i) {
+        System.arraycopy(keys, i + 1, keys, i, chunks - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, chunks - i - 1);
+        containers[--chunks] = null;
+    }
+
+    // ----- containers -----
+
+    /** Arrays hold at most this many values; beyond it a bitmap is smaller. */
+    private static final int ARRAY_MAX = 4096;
+
+    private abstract static class Container {
+        abstract Container add(char x);
+
+        abstract Container remove(char x);
+
+        abstract boolean contains(char x);
+
+        abstract int cardinality();
+
+        abstract void forEach(int base, IntConsumer action);
+
+        abstract BitmapContainer toBitmap();
+
+        abstract Container copy();
+
+        abstract long sizeInBytes();
+
+        Container and(Container other) {
+            return toBitmap().andBitmap(other.toBitmap()).normalize();
+        }
+
+        Container or(Container other) {
+            return toBitmap().orBitmap(other.toBitmap()).normalize();
+        }
+
+        Container andNot(Container other) {
+            return toBitmap().andNotBitmap(other.toBitmap()).normalize();
+        }
+
+        Container runOptimize() {
+            RunContainer runs = RunContainer.fromBitmap(toBitmap());
+            return runs.sizeInBytes() < sizeInBytes() ? runs : this;
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+        char[] values;
+        int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char x) {
+            int i = Arrays.binarySearch(values, 0, cardinality, x);
+            if (i >= 0) return this;
+            if (cardinality == ARRAY_MAX) {
+                BitmapContainer bitmap = toBitmap();
+                return bitmap.add(x);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = x;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char x) {
+            int i = Arrays.binarySearch(values, 0, cardinality, x);
+            if (i < 0) return this;
+            System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+            cardinality--;
+            return this;
+        }
+
+        @Override
+        boolean contains(char x) {
+            return Arrays.binarySearch(values, 0, cardinality, x) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.words[values[i] >>> 6] |= 1L << values[i];
+            }
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(values.clone(), cardinality);
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16L + values.length * 2L;
+        }
+
+        /** Two sparse chunks: a plain sorted merge beats expanding to bitmaps. */
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                // probe the other container once per value of this (small) array
+                char[] out = new char[cardinality];
+                int n = 0;
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) out[n++] = values[i];
+                }
+                return new ArrayContainer(out, n);
+            }
+            ArrayContainer b = (ArrayContainer) other;
+            char[] out = new char[Math.min(cardinality, b.cardinality)];
+            int i = 0, j = 0, n = 0;
+            while (i < cardinality && j < b.cardinality) {
+                char x = values[i], y = b.values[j];
+                if (x == y) out[n++] = x;
+                if (x <= y) i++;
+                if (y <= x) j++;
+            }
+            return new ArrayContainer(out, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer) || cardinality + ((ArrayContainer) other).cardinality > ARRAY_MAX) {
+                return super.or(other);
+            }
+            ArrayContainer b = (ArrayContainer) other;
+            char[] out = new char[cardinality + b.cardinality];
+            int i = 0, j = 0, n = 0;
+            while (i < cardinality && j < b.cardinality) {
+                char x = values[i], y = b.values[j];
+                out[n++] = x < y ? x : y;
+                if (x <= y) i++;
+                if (y <= x) j++;
+            }
+            while (i < cardinality) out[n++] = values[i++];
+            while (j < b.cardinality) out[n++] = b.values[j++];
+            return new ArrayContainer(out, n);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] out = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) out[n++] = values[i];
+            }
+            return new ArrayContainer(out, n);
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        final long[] words = new long[1024];
+        int cardinality;
+
+        @Override
+        Container add(char x) {
+            long bit = 1L << x;
+            long w = words[x >>> 6];
+            if ((w & bit) == 0) {
+                words[x >>> 6] = w | bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char x) {
+            long bit = 1L << x;
+            long w = words[x >>> 6];
+            if ((w & bit) != 0) {
+                words[x >>> 6] = w & ~bit;
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        boolean contains(char x) {
+            return (words[x >>> 6] & (1L << x)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int k = 0; k < words.length; k++) {
+                long w = words[k];
+                while (w != 0) {
+                    action.accept(base | (k << 6) | Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            return this;
+        }
+
+        @Override
+        Container copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, words.length);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16L + words.length * 8L;
+        }
+
+        /** Sets bits [from, to) of this chunk, whole words at a time. */
+        void setRange(int from, int to) {
+            if (from >= to) return;
+            int first = from >>> 6, last = (to - 1) >>> 6;
+            long firstMask = -1L << from;
+            long lastMask = -1L >>> -to;
+            if (first == last) {
+                words[first] |= firstMask & lastMask;
+            } else {
+                words[first] |= firstMask;
+                Arrays.fill(words, first + 1, last, -1L);
+                words[last] |= lastMask;
+            }
+            recount();
+        }
+
+        BitmapContainer andBitmap(BitmapContainer b) {
+            BitmapContainer out = new BitmapContainer();
+            for (int k = 0; k < words.length; k++) {
+                out.words[k] = words[k] & b.words[k];
+            }
+            out.recount();
+            return out;
+        }
+
+        BitmapContainer orBitmap(BitmapContainer b) {
+            BitmapContainer out = new BitmapContainer();
+            for (int k = 0; k < words.length; k++) {
+                out.words[k] = words[k] | b.words[k];
+            }
+            out.recount();
+            return out;
+        }
+
+        BitmapContainer andNotBitmap(BitmapContainer b) {
+            BitmapContainer out = new BitmapContainer();
+            for (int k = 0; k < words.length; k++) {
+                out.words[k] = words[k] & ~b.words[k];
+            }
+            out.recount();
+            return out;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) return other.and(this);
+            return andBitmap(other.toBitmap()).normalize();
+        }
+
+        @Override
+        Container or(Container other) {
+            return orBitmap(other.toBitmap());
+        }
+
+        @Override
+        Container andNot(Container other) {
+            return andNotBitmap(other.toBitmap()).normalize();
+        }
+
+        void recount() {
+            int c = 0;
+            for (long w : words) {
+                c += Long.bitCount(w);
+            }
+            cardinality = c;
+        }
+
+        /** Downgrades to an array container once the chunk is sparse enough. */
+        Container normalize() {
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        ArrayContainer toArray() {
+            char[] out = new char[Math.max(cardinality, 1)];
+            int n = 0;
+            for (int k = 0; k < words.length; k++) {
+                long w = words[k];
+                while (w != 0) {
+                    out[n++] = (char) ((k << 6) | Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+            return new ArrayContainer(out, n);
+        }
+    }
+
+    private static final class RunContainer extends Container {
+        // runs[2k] = start, runs[2k + 1] = length - 1, sorted and non-adjacent
+        char[] runs;
+        int runCount;
+        int cardinality;
+
+        RunContainer(char[] runs, int runCount) {
+            this.runs = runs;
+            this.runCount = runCount;
+            int c = 0;
+            for (int k = 0; k < runCount; k++) {
+                c += runs[2 * k + 1] + 1;
+            }
+            this.cardinality = c;
+        }
+
+        /** Finds each run a word at a time: the next set bit, then the next clear one. */
+        static RunContainer fromBitmap(BitmapContainer bitmap) {
+            long[] words = bitmap.words;
+            char[] runs = new char[16];
+            int n = 0;
+            int k = 0;
+            long w = words[0];
+            while (true) {
+                while (w == 0) {
+                    if (++k == words.length) return new RunContainer(Arrays.copyOf(runs, 2 * n), n);
+                    w = words[k];
+                }
+                int start = (k << 6) + Long.numberOfTrailingZeros(w);
+                // look for the end in the complement, ignoring the bits below start
+                w = ~w & (-1L << start);
+                while (w == 0) {
+                    if (++k == words.length) break;
+                    w = ~words[k];
+                }
+                int end = k == words.length ? 65536 : (k << 6) + Long.numberOfTrailingZeros(w);
+                if (2 * n + 2 > runs.length) runs = Arrays.copyOf(runs, runs.length * 2);
+                runs[2 * n] = (char) start;
+                runs[2 * n + 1] = (char) (end - start - 1);
+                n++;
+                if (k == words.length) return new RunContainer(Arrays.copyOf(runs, 2 * n), n);
+                w = words[k] & (-1L << end);
+            }
+        }
+
+        /** Index of the last run starting at or before x, or -1. */
+        private int runBefore(char x) {
+            int lo = 0, hi = runCount - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (runs[2 * mid] <= x) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return hi;
+        }
+
+        private int end(int k) {
+            return runs[2 * k] + runs[2 * k + 1];
+        }
+
+        /** Extends, joins or inserts a run in place. */
+        @Override
+        Container add(char x) {
+            int k = runBefore(x);
+            if (k >= 0 && x <= end(k)) return this;
+            boolean joinsPrevious = k >= 0 && end(k) + 1 == x;
+            boolean joinsNext = k + 1 < runCount && runs[2 * (k + 1)] == x + 1;
+            if (joinsPrevious && joinsNext) {
+                runs[2 * k + 1] = (char) (end(k + 1) - runs[2 * k]);
+                deleteRun(k + 1);
+            } else if (joinsPrevious) {
+                runs[2 * k + 1]++;
+            } else if (joinsNext) {
+                runs[2 * (k + 1)] = x;
+                runs[2 * (k + 1) + 1]++;
+            } else {
+                insertRun(k + 1, x, x);
+            }
+            cardinality++;
+            return shrink();
+        }
+
+        /** Shortens, splits or drops the run holding x in place. */
+        @Override
+        Container remove(char x) {
+            int k = runBefore(x);
+            if (k < 0 || x > end(k)) return this;
+            int start = runs[2 * k], end = end(k);
+            if (start == end) {
+                deleteRun(k);
+            } else if (x == start) {
+                runs[2 * k] = (char) (x + 1);
+                runs[2 * k + 1]--;
+            } else if (x == end) {
+                runs[2 * k + 1]--;
+            } else {
+                runs[2 * k + 1] = (char) (x - 1 - start);
+                insertRun(k + 1, x + 1, end);
+            }
+            cardinality--;
+            return shrink();
+        }
+
+        private void insertRun(int k, int start, int end) {
+            if (2 * runCount + 2 > runs.length) runs = Arrays.copyOf(runs, Math.max(4, runs.length * 2));
+            System.arraycopy(runs, 2 * k, runs, 2 * k + 2, 2 * (runCount - k));
+            runs[2 * k] = (char) start;
+            runs[2 * k + 1] = (char) (end - start);
+            runCount++;
+        }
+
+        private void deleteRun(int k) {
+            System.arraycopy(runs, 2 * k + 2, runs, 2 * k, 2 * (runCount - k - 1));
+            runCount--;
+        }
+
+        /**
+         * Once the runs take more room than an array or a bitmap of the same values
+         * would, switches to the smaller of those.
+         */
+        private Container shrink() {
+            long arrayBytes = cardinality <= ARRAY_MAX ? 16L + cardinality * 2L : Long.MAX_VALUE;
+            long bitmapBytes = 16L + 1024 * 8L;
+            long runBytes = 16L + runCount * 4L;
+            if (runBytes <= Math.min(arrayBytes, bitmapBytes) || cardinality == 0) return this;
+            return arrayBytes <= bitmapBytes ? toArray() : toBitmap();
+        }
+
+        ArrayContainer toArray() {
+            char[] out = new char[Math.max(cardinality, 1)];
+            int n = 0;
+            for (int k = 0; k < runCount; k++) {
+                for (int x = runs[2 * k], end = end(k); x <= end; x++) {
+                    out[n++] = (char) x;
+                }
+            }
+            return new ArrayContainer(out, n);
+        }
+
+        @Override
+        boolean contains(char x) {
+            int lo = 0, hi = runCount - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char start = runs[2 * mid];
+                if (x < start) {
+                    hi = mid - 1;
+                } else if (x > start + runs[2 * mid + 1]) {
+                    lo = mid + 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int k = 0; k < runCount; k++) {
+                int start = runs[2 * k], end = start + runs[2 * k + 1];
+                for (int x = start; x <= end; x++) {
+                    action.accept(base | x);
+                }
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int k = 0; k < runCount; k++) {
+                int start = runs[2 * k];
+                int end = start + runs[2 * k + 1] + 1;
+                int first = start >>> 6, last = (end - 1) >>> 6;
+                long firstMask = -1L << start;
+                long lastMask = -1L >>> -end;
+                if (first == last) {
+                    bitmap.words[first] |= firstMask & lastMask;
+                } else {
+                    bitmap.words[first] |= firstMask;
+                    Arrays.fill(bitmap.words, first + 1, last, -1L);
+                    bitmap.words[last] |= lastMask;
+                }
+            }
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+
+        @Override
+        Container copy() {
+            return new RunContainer(Arrays.copyOf(runs, 2 * runCount), runCount);
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16L + runs.length * 2L;
+        }
+
+        @Override
+        Container runOptimize() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package HashSet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Streams the body of a snapshot file through a direct buffer while computing its
+ * CRC32C, then writes the header at offset 0.
+ *
+ * <p>Everything goes to a temporary sibling file that replaces the target in one atomic
+ * move on {@link #commit}, so a crash mid-write never leaves a half-written snapshot
+ * under the real name. Closing without committing deletes the temporary file.
+ */
+final class SnapshotWriter implements Closeable {
+
+    private final Path target;
+    private final Path tmp;
+    private final FileChannel channel;
+    private final ByteBuffer buf = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+    private long bodyBytes;
+    private boolean committed;
+
+    SnapshotWriter(Path target, int headerBytes) throws IOException {
+        this.target = target;
+        this.tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        this.channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        channel.position(headerBytes);
+    }
+
+    void putInt(int value) throws IOException {
+        if (buf.remaining() < Integer.BYTES) flush();
+        buf.putInt(value);
+    }
+
+    void putLong(long value) throws IOException {
+        if (buf.remaining() < Long.BYTES) flush();
+        buf.putLong(value);
+    }
+
+    void putBytes(byte[] bytes) throws IOException {
+        int off = 0;
+        while (off < bytes.length) {
+            if (!buf.hasRemaining()) flush();
+            int n = Math.min(buf.remaining(), bytes.length - off);
+            buf.put(bytes, off, n);
+            off += n;
+        }
+    }
+
+    /** Pads the body with zeros up to a multiple of {@code alignment} bytes. */
+    void align(int alignment) throws IOException {
+        while ((bodyBytes + buf.position()) % alignment != 0) {
+            if (!buf.hasRemaining()) flush();
+            buf.put((byte) 0);
+        }
+    }
+
+    /** Bytes written after the header so far. */
+    long position() {
+        return bodyBytes + buf.position();
+    }
+
+    int bodyChecksum() throws IOException {
+        flush();
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Seals {@code header} with its own checksum in the last four bytes, writes it at
+     * offset 0, forces everything to disk and moves the file into place.
+     */
+    void commit(ByteBuffer header) throws IOException {
+        flush();
+        seal(header);
+        header.clear();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        channel.close();
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (committed) return;
+        channel.close();
+        Files.deleteIfExists(tmp);
+    }
+
+    static ByteBuffer header(int bytes, int magic, int version) {
+        ByteBuffer header = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0, magic);
+        header.putInt(4, version);
+        return header;
+    }
+
+    static int headerChecksum(ByteBuffer header) {
+        CRC32C c = new CRC32C();
+        c.update(header.array(), 0, header.capacity() - Integer.BYTES);
+        return (int) c.getValue();
+    }
+
+    private static void seal(ByteBuffer header) {
+        header.putInt(header.capacity() - Integer.BYTES, headerChecksum(header));
+    }
+
+    private void flush() throws IOException {
+        buf.flip();
+        crc.update(buf.duplicate());
+        bodyBytes += buf.remaining();
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+        buf.clear();
+    }
+}
@@ -0,0 +1,273 @@
+package HashSet;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A set of {@code int} values kept as a sorted, duplicate-free {@code int[]}.
+ *
+ * <p>Single-element updates are O(n), but the bulk operations that {@code HashSet} does
+ * with one hash probe per element ({@code retainAll}, {@code addAll}, {@code removeAll},
+ * {@code containsAll}) become sequential merges over two arrays. When one side is much
+ * smaller, the merge switches to galloping (exponential + binary search) through the
+ * larger side, so the cost is O(small * log(large / small)) instead of O(small + large).
+ */
+public class SortedIntSet {
+
+    /** Size ratio above which the merges gallop instead of stepping linearly. */
+    private static final int GALLOP_RATIO = 32;
+
+    private int[] values;
+    private int size;
+
+    public SortedIntSet() {
+        this.values = new int[0];
+    }
+
+    private SortedIntSet(int[] sortedUnique, int size) {
+        this.values = sortedUnique;
+        this.size = size;
+    }
+
+    /**
+     * Creates a set from arbitrary values (they are copied, sorted and de-duplicated).
+     */
+    public static SortedIntSet of(int... values) {
+        int[] copy = values.clone();
+        Arrays.sort(copy);
+        int n = 0;
+        for (int i = 0; i < copy.length; i++) {
+            if (n == 0 || copy[n - 1] != copy[i]) copy[n++] = copy[i];
+        }
+        return new SortedIntSet(copy, n);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    public boolean add(int value) {
+        int i = Arrays.binarySearch(values, 0, size, value);
+        if (i >= 0) return false;
+        i = -i - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+        }
+        System.arraycopy(values, i, values, i + 1, size - i);
+        values[i] = value;
+        size++;
+        return true;
+    }
+
+    public boolean remove(int value) {
+        int i = Arrays.binarySearch(values, 0, size, value);
+        if (i < 0) return false;
+        System.arraycopy(values, i + 1, values, i, size - i - 1);
+        size--;
+        return true;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    // ----- bulk set algebra -----
+
+    /**
+     * Returns a new set with the elements present in both sets.
+     */
+    public SortedIntSet intersection(SortedIntSet other) {
+        SortedIntSet small = size <= other.size ? this : other;
+        SortedIntSet large = small == this ? other : this;
+        int[] out = new int[small.size];
+        int n = (long) small.size * GALLOP_RATIO < large.size
+                ? intersectGalloping(small.values, small.size, large.values, large.size, out)
+                : intersectMerge(small.values, small.size, large.values, large.size, out);
+        return new SortedIntSet(out, n);
+    }
+
+    /**
+     * Returns a new set with the elements present in either set.
+     */
+    public SortedIntSet union(SortedIntSet other) {
+        int[] a = values, b = other.values;
+        int na = size, nb = other.size;
+        int[] out = new int[na + nb];
+        int i = 0, j = 0, n = 0;
+        while (i < na && j < nb) {
+            int x = a[i], y = b[j];
+            // take the smaller; advance both when equal
+            out[n++] = Math.min(x, y);
+            if (x <= y) i++;
+            if (y <= x) j++;
+        }
+        System.arraycopy(a, i, out, n, na - i);
+        n += na - i;
+        System.arraycopy(b, j, out, n, nb - j);
+        n += nb - j;
+        return new SortedIntSet(out, n);
+    }
+
+    /**
+     * Returns a new set with the elements of this set that are not in {@code other}.
+     */
+    public SortedIntSet difference(SortedIntSet other) {
+        int[] a = values, b = other.values;
+        int na = size, nb = other.size;
+        int[] out = new int[na];
+        int n = 0;
+        if ((long) na * GALLOP_RATIO < nb) {
+            int lo = 0;
+            for (int i = 0; i < na; i++) {
+                lo = gallop(b, lo, nb, a[i]);
+                if (lo >= nb || b[lo] != a[i]) out[n++] = a[i];
+            }
+        } else {
+            int j = 0;
+            for (int i = 0; i < na; i++) {
+                int x = a[i];
+                while (j < nb && b[j] < x) j++;
+                if (j >= nb || b[j] != x) out[n++] = x;
+            }
+        }
+        return new SortedIntSet(out, n);
+    }
+
+    /**
+     * Subset check: true if every element of {@code other} is in this set.
+     */
+    public boolean containsAll(SortedIntSet other) {
+        if (other.size > size) return false;
+        int[] a = values, b = other.values;
+        int i = 0;
+        boolean gallop = (long) other.size * GALLOP_RATIO < size;
+        for (int j = 0; j < other.size; j++) {
+            int y = b[j];
+            if (gallop) {
+                i = gallop(a, i, size, y);
+            } else {
+                while (i < size && a[i] < y) i++;
+            }
+            if (i >= size || a[i] != y) return false;
+            i++;
+        }
+        return true;
+    }
+
+    /**
+     * Intersection in place, mirroring {@code Set.retainAll}.
+     */
+    public boolean retainAll(SortedIntSet other) {
+        return replaceWith(intersection(other));
+    }
+
+    /**
+     * Union in place, mirroring {@code Set.addAll}.
+     */
+    public boolean addAll(SortedIntSet other) {
+        return replaceWith(union(other));
+    }
+
+    /**
+     * Difference in place, mirroring {@code Set.removeAll}.
+     */
+    public boolean removeAll(SortedIntSet other) {
+        return replaceWith(difference(other));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SortedIntSet)) return false;
+        SortedIntSet other = (SortedIntSet) o;
+        return Arrays.equals(values, 0, size, other.values, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int i = 0; i < size; i++) {
+            h += values[i];
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private boolean replaceWith(SortedIntSet result) {
+        boolean changed = result.size != size;
+        values = result.values;
+        size = result.size;
+        return changed;
+    }
+
+    /**
+     * Linear merge. The inner step is written without data-dependent branches on which
+     * side advances, so it stays fast even when the two sides interleave randomly.
+     */
+    private static int intersectMerge(int[] a, int na, int[] b, int nb, int[] out) {
+        int i = 0, j = 0, n = 0;
+        while (i < na && j < nb) {
+            int x = a[i], y = b[j];
+            out[n] = x;
+            n += x == y ? 1 : 0;
+            i += x <= y ? 1 : 0;
+            j += y <= x ? 1 : 0;
+        }
+        return n;
+    }
+
+    private static int intersectGalloping(int[] small, int ns, int[] large, int nl, int[] out) {
+        int n = 0, lo = 0;
+        for (int i = 0; i < ns && lo < nl; i++) {
+            lo = gallop(large, lo, nl, small[i]);
+            if (lo < nl && large[lo] == small[i]) out[n++] = small[i];
+        }
+        return n;
+    }
+
+    /**
+     * Returns the first index {@code >= from} whose value is {@code >= key}, probing
+     * 1, 2, 4, ... positions ahead before binary-searching the bracketed range.
+     */
+    private static int gallop(int[] a, int from, int to, int key) {
+        if (from >= to || a[from] >= key) return from;
+        int step = 1;
+        int lo = from;
+        int hi = from + 1;
+        while (hi < to && a[hi] < key) {
+            lo = hi;
+            step <<= 1;
+            hi = step > to - from ? to : from + step;
+        }
+        hi = Math.min(hi, to);
+        // invariant: a[lo] < key, and a[hi] >= key or hi == to
+        while (lo + 1 < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) lo = mid; else hi = mid;
+        }
+        return hi;
+    }
+}
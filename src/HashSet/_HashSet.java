@@ -44,6 +44,15 @@ public class _HashSet {
 
         System.out.println(divider + "SECTION 5: STREAM OPERATIONS" + divider);
         demonstrateStreamOperations();
+
+        System.out.println(divider + "SECTION 6: PRIMITIVE INT SET" + divider);
+        demonstratePrimitiveSet();
+
+        System.out.println(divider + "SECTION 7: COMPRESSED BITMAP SET" + divider);
+        demonstrateBitmapSet();
+
+        System.out.println(divider + "SECTION 8: BLOOM FILTER FRONT LAYER" + divider);
+        demonstrateBloomFilter();
     }
 
     /**
@@ -218,4 +227,83 @@ public class _HashSet {
         workingSet.removeIf(element -> element.length() > 5);
         System.out.println("After removing elements with length > 5: " + workingSet);
     }
-}
\ No newline at end of file
+
+    /**
+     * Demonstrates IntHashSet, which stores int keys without boxing them
+     */
+    private static void demonstratePrimitiveSet() {
+        // Same constructor shapes as HashSet
+        IntHashSet ids = new IntHashSet(3, 0.5f);
+        ids.add(10);
+        ids.add(20);
+        ids.add(10); // duplicate
+        System.out.println("After adding 10, 20, 10: " + ids);
+        System.out.println("Contains 20? " + ids.contains(20));
+
+        IntHashSet set1 = IntHashSet.of(1, 2, 3, 4);
+        IntHashSet set2 = IntHashSet.of(3, 4, 5, 6);
+
+        IntHashSet workingSet = new IntHashSet(set1);
+        workingSet.retainAll(set2);
+        System.out.println("Intersection (set1 ∩ set2): " + workingSet);
+
+        workingSet = new IntHashSet(set1);
+        workingSet.addAll(set2);
+        System.out.println("Union (set1 ∪ set2): " + workingSet);
+
+        workingSet = new IntHashSet(set1);
+        workingSet.removeAll(set2);
+        System.out.println("Difference (set1 - set2): " + workingSet);
+
+        System.out.println("Is set1 a subset of set2? " + set2.containsAll(set1));
+    }
+
+    /**
+     * Demonstrates RoaringIntSet on dense ranges of IDs
+     */
+    private static void demonstrateBitmapSet() {
+        RoaringIntSet activeUsers = new RoaringIntSet();
+        activeUsers.addRange(0, 1_000_000);
+        RoaringIntSet premiumUsers = new RoaringIntSet();
+        premiumUsers.addRange(900_000, 1_200_000);
+        premiumUsers.add(5);
+
+        System.out.println("Active users: " + activeUsers.cardinality());
+        System.out.println("Premium users: " + premiumUsers.cardinality());
+        System.out.println("Contains 42? " + activeUsers.contains(42));
+
+        // Same operations as retainAll / addAll / removeAll on HashSet
+        System.out.println("Intersection size: " + activeUsers.and(premiumUsers).cardinality());
+        System.out.println("Union size: " + activeUsers.or(premiumUsers).cardinality());
+        System.out.println("Difference size: " + activeUsers.andNot(premiumUsers).cardinality());
+
+        System.out.println("Bitmap bytes: " + activeUsers.sizeInBytes());
+        activeUsers.runOptimize();
+        System.out.println("Bytes after runOptimize(): " + activeUsers.sizeInBytes());
+    }
+
+    /**
+     * Demonstrates short-circuiting negative lookups with a Bloom filter
+     */
+    private static void demonstrateBloomFilter() {
+        IncrementalHashSet<String> fruits = new IncrementalHashSet<>();
+        fruits.enableBloomFilter(0.01);
+        for (int i = 0; i < 10_000; i++) {
+            fruits.add("Fruit-" + i);
+        }
+        fruits.add("Apple");
+
+        System.out.println("Contains Apple? " + fruits.contains("Apple"));
+        System.out.println("Contains Dragonfruit? " + fruits.contains("Dragonfruit"));
+        for (int i = 0; i < 10_000; i++) {
+            fruits.contains("Missing-" + i);
+        }
+
+        BloomFilter filter = fruits.bloomFilter();
+        System.out.println("Rejected by filter: " + filter.rejectedCount());
+        System.out.println("Passed to table: " + filter.passedCount());
+        System.out.println("False positives: " + filter.falsePositiveCount());
+        System.out.printf("Observed false-positive rate: %.4f (target %.2f)%n",
+                filter.observedFalsePositiveRate(), filter.targetFalsePositiveRate());
+    }
+}
@@ -1,12 +1,27 @@
 package LinkedList;
 
+import java.nio.channels.WritableByteChannel;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 public class CLL {
+    private static final int MIN_SPLIT = 1 << 10 ;
+
     Node head;
     Node tail ;
     int size = 0 ;
+    private final NodePool<Node> pool = new NodePool<>() ;
+    // bumped by every structural change, so iterators and spliterators fail fast
+    private int modCount ;
 
     public void append(int value){
-        Node node = new Node(value) ;
+        Node node = takeNode(value) ;
         if (head != null && tail != null){
             tail.next = node ;
             node.next = head ;
@@ -16,12 +31,14 @@ public class CLL {
             tail = node ;
         }
         this.size++ ;
+        modCount++ ;
     }
 
     public void delete(int value){
         if (head == null) return; // Empty list
 
         if (head.value == value) {
+            Node removed = head ;
             if (size == 1) {
                 head = null;
                 tail = null;
@@ -29,7 +46,9 @@ public class CLL {
                 head = head.next;
                 tail.next = head;
             }
+            recycle(removed);
             size--;
+            modCount++;
             return;
         }
 
@@ -41,7 +60,9 @@ public class CLL {
                 if (nextNode == tail) {
                     tail = current;
                 }
+                recycle(nextNode);
                 size--;
+                modCount++;
                 return;
             }
             current = current.next;
@@ -54,19 +75,219 @@ public class CLL {
             System.out.println("List is empty");
             return;
         }
-        Node temp = head;
-        do {
-            System.out.print(temp.value + " -> ");
-            temp = temp.next;
-        } while (temp != head);
-        System.out.println("End");
+        IntTextWriter out = IntTextWriter.stdout(" -> ") ;
+        forEach(out);
+        out.text("End" + System.lineSeparator());
+        out.flush();
+    }
+
+    // visits every value once, starting at head; fails fast if the visitor changes the list
+    public void forEach(IntConsumer action) {
+        int expected = modCount;
+        Node node = head;
+        for (int i = 0; i < size && modCount == expected; i++) {
+            action.accept(node.value);
+            node = node.next;
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+    }
+
+    // one value per line, formatted into a reusable buffer and written in large chunks;
+    // the channel is left open
+    public void writeTo(WritableByteChannel out) {
+        IntTextWriter writer = new IntTextWriter(out, "\n");
+        forEach(writer);
+        writer.flush();
+    }
+
+    public int[] toArray(){
+        int[] values = new int[size] ;
+        Node node = head ;
+        for (int i = 0; i < size; i++){
+            values[i] = node.value ;
+            node = node.next ;
+        }
+        return values ;
+    }
+
+    public void reverse(){
+        reverse(0, size);
+    }
+
+    // reverses positions from..to-1 in place (0-based from head, `to` exclusive);
+    // the ring is opened at the tail while links change and closed again afterwards
+    public void reverse(int from, int to){
+        Objects.checkFromToIndex(from, to, size) ;
+        if (to - from < 2) return ;
+        modCount++ ;
+        tail.next = null ;
+        Node before = null ;
+        Node node = head ;
+        for (int i = 0; i < from; i++){
+            before = node ;
+            node = node.next ;
+        }
+        Node first = node ;
+        Node prev = null ;
+        for (int i = from; i < to; i++){
+            Node next = node.next ;
+            node.next = prev ;
+            prev = node ;
+            node = next ;
+        }
+        first.next = node ;
+        if (before == null) head = prev ; else before.next = prev ;
+        if (node == null) tail = first ;
+        tail.next = head ;
+    }
+
+    // stable merge sort over natural runs on the opened ring (see IntNode.sort)
+    public void sort(){
+        if (size < 2) return ;
+        modCount++ ;
+        tail.next = null ;
+        head = IntNode.sort(head) ;
+        Node node = head ;
+        while (node.next != null) node = node.next ;
+        tail = node ;
+        tail.next = head ;
+    }
+
+    public PrimitiveIterator.OfInt iterator(){
+        return new PrimitiveIterator.OfInt() {
+            private Node node = head ;
+            private int remaining = size ;
+            private final int expectedModCount = modCount ;
+
+            @Override
+            public boolean hasNext(){
+                return remaining > 0 ;
+            }
+
+            @Override
+            public int nextInt(){
+                if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+                if (remaining == 0) throw new NoSuchElementException() ;
+                int value = node.value ;
+                node = node.next ;
+                remaining-- ;
+                return value ;
+            }
+        };
+    }
+
+    public Spliterator.OfInt spliterator(){
+        return new NodeSpliterator(null, -1, 0) ;
+    }
+
+    public IntStream stream(){
+        return StreamSupport.intStream(spliterator(), false) ;
+    }
+
+    public IntStream parallelStream(){
+        return StreamSupport.intStream(spliterator(), true) ;
+    }
+
+    // how many deleted nodes to hold on to for reuse (0, the default, keeps none)
+    public void setPoolCapacity(int capacity){
+        pool.setCapacity(capacity);
+    }
+
+    // lets the GC have all but `keep` of the pooled nodes
+    public void trimPool(int keep){
+        pool.trim(keep);
+    }
+
+    public void trimPool(){
+        pool.trim(0);
     }
-    private class Node {
-        int value ;
-        Node next;
 
+    private Node takeNode(int value){
+        Node node = pool.take() ;
+        if (node == null) return new Node(value) ;
+        node.value = value ;
+        return node ;
+    }
+
+    private void recycle(Node node){
+        pool.offer(node);
+    }
+
+    private class Node extends IntNode<Node> {
         public Node(int value){
-            this.value = value ;
+            super(value) ;
+        }
+    }
+
+    // same as LL's; bounded by the count rather than a null link, so it stops after one lap
+    private final class NodeSpliterator implements Spliterator.OfInt {
+        private Node node ;
+        private int remaining ;     // -1 until bound
+        private int expectedModCount ;
+
+        NodeSpliterator(Node node, int remaining, int expectedModCount){
+            this.node = node ;
+            this.remaining = remaining ;
+            this.expectedModCount = expectedModCount ;
+        }
+
+        private int remaining(){
+            if (remaining < 0){
+                node = head ;
+                remaining = size ;
+                expectedModCount = modCount ;
+            }
+            return remaining ;
+        }
+
+        @Override
+        public NodeSpliterator trySplit(){
+            int n = remaining() ;
+            if (n < MIN_SPLIT) return null ;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+            int half = n >>> 1 ;
+            Node start = node ;
+            for (int i = 0; i < half; i++){
+                node = node.next ;
+            }
+            remaining = n - half ;
+            return new NodeSpliterator(start, half, expectedModCount) ;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action){
+            if (remaining() == 0) return false ;
+            int value = node.value ;
+            node = node.next ;
+            remaining-- ;
+            action.accept(value);
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+            return true ;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action){
+            int n = remaining() ;
+            Node current = node ;
+            // checked before every step: a visitor that unlinks later nodes must get a
+            // CME, not a walk into null or into recycled pool nodes
+            for (int i = 0; i < n && modCount == expectedModCount; i++){
+                action.accept(current.value);
+                current = current.next ;
+            }
+            node = current ;
+            remaining = 0 ;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+        }
+
+        @Override
+        public long estimateSize(){
+            return remaining() ;
+        }
+
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL ;
         }
     }
 }
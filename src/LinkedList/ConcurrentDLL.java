@@ -0,0 +1,355 @@
+package LinkedList;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// thread-safe deque on the DLL layout (head, tail, prev/next links).
+// the head end and the tail end each have their own lock, so producers at one end
+// and consumers at the other don't contend. the two ends only touch the same nodes
+// when the deque is nearly empty; in that case an operation takes both locks,
+// always headLock first.
+//
+// count is what lets a poll stay on its own end: it is bumped after a node is linked
+// and reserved (decremented) before a node is unlinked, so the list always holds at
+// least `count` nodes. a poll may skip the other lock only if it reserves while
+// count >= 3, which leaves nodes between the two ends untouched.
+public class ConcurrentDLL<E> {
+    private final ReentrantLock headLock = new ReentrantLock() ;
+    private final ReentrantLock tailLock = new ReentrantLock() ;
+    private final AtomicInteger count = new AtomicInteger() ;
+    private final AtomicInteger occupied = new AtomicInteger() ; // capacity permits, only for bounded deques
+    private final int capacity ;
+    private volatile Node<E> head ;
+    private volatile Node<E> tail ;
+
+    // blocking calls park here; offers/polls only touch it when someone is waiting
+    private final ReentrantLock waitLock = new ReentrantLock() ;
+    private final Condition notEmpty = waitLock.newCondition() ;
+    private final Condition notFull = waitLock.newCondition() ;
+    private volatile int emptyWaiters ;
+    private volatile int fullWaiters ;
+
+    private static class Node<E>{
+        final E value ;
+        volatile Node<E> next, prev ;
+
+        Node(E value){
+            this.value = value ;
+        }
+    }
+
+    public ConcurrentDLL(){
+        this(Integer.MAX_VALUE) ;
+    }
+
+    public ConcurrentDLL(int capacity){
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive") ;
+        this.capacity = capacity ;
+    }
+
+    public int size(){
+        return count.get() ;
+    }
+
+    public int capacity(){
+        return capacity ;
+    }
+
+    public boolean isEmpty(){
+        return count.get() == 0 ;
+    }
+
+    // ---- non-blocking operations: fail fast instead of waiting ----
+
+    public boolean offerFirst(E value){
+        if (value == null) throw new NullPointerException() ;
+        if (!acquireSlot()) return false ;
+        Node<E> node = new Node<>(value) ;
+        headLock.lock();
+        try {
+            if (head == null){
+                // empty: tail has to move too
+                tailLock.lock();
+                try {
+                    linkFirst(node);
+                } finally {
+                    tailLock.unlock();
+                }
+            } else {
+                linkFirst(node);
+            }
+        } finally {
+            headLock.unlock();
+        }
+        signalNotEmpty();
+        return true ;
+    }
+
+    public boolean offerLast(E value){
+        if (value == null) throw new NullPointerException() ;
+        if (!acquireSlot()) return false ;
+        Node<E> node = new Node<>(value) ;
+        tailLock.lock();
+        try {
+            if (tail != null){
+                linkLast(node);
+                node = null ;
+            }
+        } finally {
+            tailLock.unlock();
+        }
+        if (node != null){
+            headLock.lock();
+            tailLock.lock();
+            try {
+                linkLast(node);
+            } finally {
+                tailLock.unlock();
+                headLock.unlock();
+            }
+        }
+        signalNotEmpty();
+        return true ;
+    }
+
+    public E pollFirst(){
+        E value = null ;
+        headLock.lock();
+        try {
+            if (reserveFast()){
+                value = unlinkFirst() ;
+            } else {
+                tailLock.lock();
+                try {
+                    if (reserveAny()) value = unlinkFirst() ;
+                } finally {
+                    tailLock.unlock();
+                }
+            }
+        } finally {
+            headLock.unlock();
+        }
+        if (value != null) releaseSlot();
+        return value ;
+    }
+
+    public E pollLast(){
+        E value = null ;
+        boolean done = false ;
+        tailLock.lock();
+        try {
+            if (reserveFast()){
+                value = unlinkLast() ;
+                done = true ;
+            }
+        } finally {
+            tailLock.unlock();
+        }
+        if (!done){
+            headLock.lock();
+            tailLock.lock();
+            try {
+                if (reserveAny()) value = unlinkLast() ;
+            } finally {
+                tailLock.unlock();
+                headLock.unlock();
+            }
+        }
+        if (value != null) releaseSlot();
+        return value ;
+    }
+
+    public E peekFirst(){
+        headLock.lock();
+        try {
+            Node<E> node = head ;
+            return node == null ? null : node.value ;
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    public E peekLast(){
+        tailLock.lock();
+        try {
+            Node<E> node = tail ;
+            return node == null ? null : node.value ;
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    // ---- blocking operations: wait for an element or, when bounded, for space ----
+
+    public void putFirst(E value) throws InterruptedException {
+        while (!offerFirst(value)) awaitNotFull(0);
+    }
+
+    public void putLast(E value) throws InterruptedException {
+        while (!offerLast(value)) awaitNotFull(0);
+    }
+
+    public E takeFirst() throws InterruptedException {
+        E value ;
+        while ((value = pollFirst()) == null) awaitNotEmpty(0);
+        return value ;
+    }
+
+    public E takeLast() throws InterruptedException {
+        E value ;
+        while ((value = pollLast()) == null) awaitNotEmpty(0);
+        return value ;
+    }
+
+    public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout) ;
+        E value ;
+        while ((value = pollFirst()) == null){
+            long left = deadline - System.nanoTime() ;
+            if (left <= 0) return null ;
+            awaitNotEmpty(left);
+        }
+        return value ;
+    }
+
+    public E pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout) ;
+        E value ;
+        while ((value = pollLast()) == null){
+            long left = deadline - System.nanoTime() ;
+            if (left <= 0) return null ;
+            awaitNotEmpty(left);
+        }
+        return value ;
+    }
+
+    // ---- internals ----
+
+    // callers hold headLock (and tailLock too if the deque is empty)
+    private void linkFirst(Node<E> node){
+        Node<E> first = head ;
+        node.next = first ;
+        if (first == null){
+            tail = node ;
+        } else {
+            first.prev = node ;
+        }
+        head = node ;
+        count.incrementAndGet();
+    }
+
+    // callers hold tailLock (and headLock too if the deque is empty)
+    private void linkLast(Node<E> node){
+        Node<E> last = tail ;
+        node.prev = last ;
+        if (last == null){
+            head = node ;
+        } else {
+            last.next = node ;
+        }
+        tail = node ;
+        count.incrementAndGet();
+    }
+
+    private E unlinkFirst(){
+        Node<E> first = head ;
+        Node<E> next = first.next ;
+        first.next = null ;
+        head = next ;
+        if (next == null){
+            tail = null ;
+        } else {
+            next.prev = null ;
+        }
+        return first.value ;
+    }
+
+    private E unlinkLast(){
+        Node<E> last = tail ;
+        Node<E> prev = last.prev ;
+        last.prev = null ;
+        tail = prev ;
+        if (prev == null){
+            head = null ;
+        } else {
+            prev.next = null ;
+        }
+        return last.value ;
+    }
+
+    // reserves a node for a single-lock poll; only allowed while at least 3 are linked
+    private boolean reserveFast(){
+        int c = count.get() ;
+        while (c >= 3){
+            if (count.compareAndSet(c, c - 1)) return true ;
+            c = count.get() ;
+        }
+        return false ;
+    }
+
+    // with both locks held nobody else can reserve, so a plain check is enough
+    private boolean reserveAny(){
+        if (count.get() == 0) return false ;
+        count.decrementAndGet();
+        return true ;
+    }
+
+    private boolean acquireSlot(){
+        if (capacity == Integer.MAX_VALUE) return true ;
+        int c = occupied.get() ;
+        while (c < capacity){
+            if (occupied.compareAndSet(c, c + 1)) return true ;
+            c = occupied.get() ;
+        }
+        return false ;
+    }
+
+    private void releaseSlot(){
+        if (capacity == Integer.MAX_VALUE) return ;
+        occupied.decrementAndGet();
+        if (fullWaiters > 0) signal(notFull);
+    }
+
+    private void signalNotEmpty(){
+        if (emptyWaiters > 0) signal(notEmpty);
+    }
+
+    private void signal(Condition condition){
+        waitLock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    // a waiter registers before re-checking, and signallers check for waiters after
+    // publishing, so one of the two always sees the other
+    private void awaitNotEmpty(long nanos) throws InterruptedException {
+        waitLock.lock();
+        try {
+            emptyWaiters++ ;
+            if (count.get() == 0){
+                if (nanos > 0) notEmpty.awaitNanos(nanos); else notEmpty.await();
+            }
+        } finally {
+            emptyWaiters-- ;
+            waitLock.unlock();
+        }
+    }
+
+    private void awaitNotFull(long nanos) throws InterruptedException {
+        waitLock.lock();
+        try {
+            fullWaiters++ ;
+            if (occupied.get() >= capacity){
+                if (nanos > 0) notFull.awaitNanos(nanos); else notFull.await();
+            }
+        } finally {
+            fullWaiters-- ;
+            waitLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package LinkedList;
+
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// thread-safe sibling of LL (Harris-Michael list): every next pointer carries a
+// "deleted" mark, so delete first marks a node logically and then unlinks it with a CAS.
+// no operation takes a lock, and contains/traverse never write at all.
+public class ConcurrentLL {
+    private final Node head = new Node(0, null) ; // sentinel, never removed
+    private final AtomicReference<Node> tail = new AtomicReference<>(head) ; // hint, may lag behind
+    private final LongAdder size = new LongAdder() ;
+
+    private static class Node{
+        final int value ;
+        final AtomicMarkableReference<Node> next ;
+
+        Node(int value, Node next){
+            this.value = value ;
+            this.next = new AtomicMarkableReference<>(next, false) ;
+        }
+    }
+
+    public int size(){
+        return size.intValue() ;
+    }
+
+    public void insertFirst(int value){
+        Node node = new Node(value, null) ;
+        while (true){
+            Node first = head.next.getReference() ;
+            node.next.set(first, false);
+            if (head.next.compareAndSet(first, node, false, false)){
+                if (first == null) tail.compareAndSet(head, node) ;
+                size.increment();
+                return ;
+            }
+        }
+    }
+
+    public void append(int value){
+        Node node = new Node(value, null) ;
+        Node hint = tail.get() ;
+        Node last = hint ;
+        boolean[] marked = new boolean[1] ;
+        while (true){
+            // an unmarked node with a null next is still linked, so a successful CAS here appends
+            if (last.next.compareAndSet(null, node, false, false)){
+                tail.compareAndSet(hint, node) ;
+                size.increment();
+                return ;
+            }
+            Node next = last.next.get(marked) ;
+            if (marked[0]){
+                last = find(0, true)[0] ;
+            } else if (next != null){
+                last = next ;
+            }
+        }
+    }
+
+    // removes the first node holding value, returns false if none was found
+    public boolean delete(int value){
+        while (true){
+            Node[] window = find(value, false) ;
+            Node pred = window[0], curr = window[1] ;
+            if (curr == null) return false ;
+            Node succ = curr.next.getReference() ;
+            if (!curr.next.compareAndSet(succ, succ, false, true)) continue ;
+            // logically gone; try to unlink it, otherwise the next find() cleans up
+            if (!pred.next.compareAndSet(curr, succ, false, false)) find(value, false) ;
+            if (succ == null) tail.compareAndSet(curr, pred) ;
+            size.decrement();
+            return true ;
+        }
+    }
+
+    public boolean contains(int value){
+        boolean[] marked = new boolean[1] ;
+        Node curr = head.next.getReference() ;
+        while (curr != null){
+            Node next = curr.next.get(marked) ;
+            if (curr.value == value && !marked[0]) return true ;
+            curr = next ;
+        }
+        return false ;
+    }
+
+    public void traverse(){
+        boolean[] marked = new boolean[1] ;
+        Node curr = head.next.getReference() ;
+        while (curr != null){
+            Node next = curr.next.get(marked) ;
+            if (!marked[0]) System.out.println(curr.value);
+            curr = next ;
+        }
+        System.out.println("size -> "+this.size());
+    }
+
+    // returns {pred, curr} where curr is the first unmarked node holding value (or null),
+    // physically unlinking every marked node it passes on the way. with toEnd set it
+    // never matches, so pred ends up as the last live node.
+    private Node[] find(int value, boolean toEnd){
+        boolean[] marked = new boolean[1] ;
+        retry:
+        while (true){
+            Node pred = head ;
+            Node curr = pred.next.getReference() ;
+            while (curr != null){
+                Node succ = curr.next.get(marked) ;
+                while (marked[0]){
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) continue retry ;
+                    if (succ == null) tail.compareAndSet(curr, pred) ;
+                    curr = succ ;
+                    if (curr == null) return new Node[]{pred, null} ;
+                    succ = curr.next.get(marked) ;
+                }
+                if (!toEnd && curr.value == value) return new Node[]{pred, curr} ;
+                pred = curr ;
+                curr = succ ;
+            }
+            return new Node[]{pred, null} ;
+        }
+    }
+}
@@ -1,23 +1,40 @@
 package LinkedList;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 public class DLL {
+    private static final int MIN_SPLIT = 1 << 10 ;
+
     Node head;
     Node tail;
     int size ;
+    private final NodePool<Node> pool = new NodePool<>() ;
+    // bumped by every structural change, so iterators and spliterators fail fast
+    private int modCount ;
     public DLL(){
         this.size = 0 ;
     }
-    private class Node{
-        int value ;
-        Node next, prev ;
+    private class Node extends IntNode<Node> {
+        Node prev ;
 
         public Node(int val){
-            this.value = val ;
+            super(val) ;
         }
     }
 
     public void insertFirst(int val){
-        Node node = new Node(val) ;
+        Node node = takeNode(val) ;
         if (this.size == 0) tail = node ;
         node.next = head ;
         node.prev = null ;
@@ -26,24 +43,81 @@ public class DLL {
         }
         head = node ;
         this.size++ ;
+        modCount++ ;
     }
 
     public void traverse(){
-        Node temp = head ;
-        while (temp != null){
-            System.out.println(temp.value);
-            temp = temp.next ;
+        IntTextWriter out = IntTextWriter.stdout(System.lineSeparator()) ;
+        forEach(out);
+        out.flush();
+    }
+
+    // visits every value head to tail; fails fast if the visitor changes the list
+    public void forEach(IntConsumer action){
+        int expected = modCount ;
+        for (Node node = head; node != null && modCount == expected; node = node.next){
+            action.accept(node.value);
         }
+        if (modCount != expected) throw new ConcurrentModificationException() ;
+    }
+
+    // same, tail to head through the prev links
+    public void forEachReverse(IntConsumer action){
+        int expected = modCount ;
+        for (Node node = tail; node != null && modCount == expected; node = node.prev){
+            action.accept(node.value);
+        }
+        if (modCount != expected) throw new ConcurrentModificationException() ;
+    }
+
+    // one value per line, formatted into a reusable buffer and written in large chunks;
+    // the channel is left open
+    public void writeTo(WritableByteChannel out){
+        IntTextWriter writer = new IntTextWriter(out, "\n") ;
+        forEach(writer);
+        writer.flush();
+    }
+
+    public void writeReverseTo(WritableByteChannel out){
+        IntTextWriter writer = new IntTextWriter(out, "\n") ;
+        forEachReverse(writer);
+        writer.flush();
+    }
+
+    // compact binary checkpoint (see IntBlockCodec), encoded block by block during
+    // the traversal; the channel is left open
+    public void writeBinaryTo(WritableByteChannel out) throws IOException {
+        IntBlockCodec.Encoder encoder = new IntBlockCodec.Encoder(out, size) ;
+        try {
+            forEach(encoder);
+        } catch (UncheckedIOException e){
+            throw e.getCause() ;
+        }
+        encoder.finish();
+    }
+
+    // reads a checkpoint written by writeBinaryTo; each decoded block is linked in with
+    // one appendAll. a truncated or corrupt stream fails before the list is returned
+    public static DLL readBinaryFrom(ReadableByteChannel in) throws IOException {
+        IntBlockCodec.Decoder decoder = new IntBlockCodec.Decoder(in) ;
+        DLL list = new DLL() ;
+        int[] block = new int[IntBlockCodec.BLOCK] ;
+        int n ;
+        while ((n = decoder.nextBlock(block)) > 0){
+            list.appendAll(block, 0, n);
+        }
+        return list ;
     }
 
     public void append(int value){
-        Node temp = new Node(value) ;
+        Node temp = takeNode(value) ;
         if (head == null){
             head = temp ;
             tail = temp ;
             temp.prev = null ;
             temp.next = null ;
             this.size++ ;
+            modCount++ ;
             return ;
         }
         tail.next = temp ;
@@ -51,13 +125,265 @@ public class DLL {
         tail = temp ;
         temp.next = null ;
         this.size++ ;
+        modCount++ ;
+    }
+
+    // links the whole batch in one pass and bumps size once
+    public void appendAll(int[] values){
+        appendAll(values, 0, values.length);
+    }
+
+    public void appendAll(int[] values, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (length == 0) return ;
+        Node first = takeNode(values[offset]) ;
+        Node last = first ;
+        for (int i = offset + 1; i < offset + length; i++){
+            Node node = takeNode(values[i]) ;
+            node.prev = last ;
+            last.next = node ;
+            last = node ;
+        }
+        first.prev = tail ;
+        if (head == null){
+            head = first ;
+        } else {
+            tail.next = first ;
+        }
+        tail = last ;
+        this.size += length ;
+        modCount++ ;
+    }
+
+    public void delete(int value){
+        Node node = head ;
+        while (node != null && node.value != value){
+            node = node.next ;
+        }
+        if (node == null) return ;
+        if (node.prev != null){
+            node.prev.next = node.next ;
+        } else {
+            head = node.next ;
+        }
+        if (node.next != null){
+            node.next.prev = node.prev ;
+        } else {
+            tail = node.prev ;
+        }
+        recycle(node);
+        this.size-- ;
+        modCount++ ;
     }
 
     public void traverseRev(){
-        Node node = tail ;
+        IntTextWriter out = IntTextWriter.stdout(System.lineSeparator()) ;
+        forEachReverse(out);
+        out.flush();
+    }
+
+    public int[] toArray(){
+        int[] values = new int[size] ;
+        int i = 0 ;
+        for (Node node = head; node != null; node = node.next){
+            values[i++] = node.value ;
+        }
+        return values ;
+    }
+
+    // swaps next and prev on every node, then the ends
+    public void reverse(){
+        modCount++ ;
+        Node node = head ;
         while (node != null){
-            System.out.println(node.value);
-            node = node.prev ;
+            Node next = node.next ;
+            node.next = node.prev ;
+            node.prev = next ;
+            node = next ;
+        }
+        Node oldHead = head ;
+        head = tail ;
+        tail = oldHead ;
+    }
+
+    // reverses positions from..to-1 in place (0-based, `to` exclusive)
+    public void reverse(int from, int to){
+        Objects.checkFromToIndex(from, to, size) ;
+        if (to - from < 2) return ;
+        modCount++ ;
+        Node first = nodeAt(from) ;
+        Node last = nodeAt(to - 1) ;
+        Node before = first.prev ;
+        Node after = last.next ;
+        Node node = first ;
+        while (node != after){
+            Node next = node.next ;
+            node.next = node.prev ;
+            node.prev = next ;
+            node = next ;
+        }
+        last.prev = before ;
+        first.next = after ;
+        if (before == null) head = last ; else before.next = last ;
+        if (after == null) tail = first ; else after.prev = first ;
+    }
+
+    // stable merge sort over natural runs, done on the next links alone (see IntNode.sort);
+    // prev links and tail are rebuilt in one last pass
+    public void sort(){
+        if (size < 2) return ;
+        modCount++ ;
+        head = IntNode.sort(head) ;
+        Node prev = null ;
+        for (Node node = head; node != null; node = node.next){
+            node.prev = prev ;
+            prev = node ;
+        }
+        tail = prev ;
+    }
+
+    // walks from whichever end is closer
+    private Node nodeAt(int index){
+        if (index < size / 2){
+            Node node = head ;
+            for (int i = 0; i < index; i++) node = node.next ;
+            return node ;
+        }
+        Node node = tail ;
+        for (int i = size - 1; i > index; i--) node = node.prev ;
+        return node ;
+    }
+
+    public PrimitiveIterator.OfInt iterator(){
+        return new PrimitiveIterator.OfInt() {
+            private Node node = head ;
+            private int remaining = size ;
+            private final int expectedModCount = modCount ;
+
+            @Override
+            public boolean hasNext(){
+                return remaining > 0 ;
+            }
+
+            @Override
+            public int nextInt(){
+                if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+                if (remaining == 0) throw new NoSuchElementException() ;
+                int value = node.value ;
+                node = node.next ;
+                remaining-- ;
+                return value ;
+            }
+        };
+    }
+
+    public Spliterator.OfInt spliterator(){
+        return new NodeSpliterator(null, -1, 0) ;
+    }
+
+    public IntStream stream(){
+        return StreamSupport.intStream(spliterator(), false) ;
+    }
+
+    public IntStream parallelStream(){
+        return StreamSupport.intStream(spliterator(), true) ;
+    }
+
+    // deleted nodes, up to `capacity`, are reused by the inserts that follow
+    public void setPoolCapacity(int capacity){
+        pool.setCapacity(capacity);
+    }
+
+    // lets go of pooled nodes beyond `keep`
+    public void trimPool(int keep){
+        pool.trim(keep);
+    }
+
+    public void trimPool(){
+        pool.trim(0);
+    }
+
+    private Node takeNode(int value){
+        Node node = pool.take() ;
+        if (node == null) return new Node(value) ;
+        node.value = value ;
+        return node ;
+    }
+
+    private void recycle(Node node){
+        node.prev = null ;
+        pool.offer(node);
+    }
+
+    // same as LL's: walks a known number of nodes, splits by skipping ahead half of them
+    private final class NodeSpliterator implements Spliterator.OfInt {
+        private Node node ;
+        private int remaining ;     // -1 until bound
+        private int expectedModCount ;
+
+        NodeSpliterator(Node node, int remaining, int expectedModCount){
+            this.node = node ;
+            this.remaining = remaining ;
+            this.expectedModCount = expectedModCount ;
+        }
+
+        private int remaining(){
+            if (remaining < 0){
+                node = head ;
+                remaining = size ;
+                expectedModCount = modCount ;
+            }
+            return remaining ;
+        }
+
+        @Override
+        public NodeSpliterator trySplit(){
+            int n = remaining() ;
+            if (n < MIN_SPLIT) return null ;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+            int half = n >>> 1 ;
+            Node start = node ;
+            for (int i = 0; i < half; i++){
+                node = node.next ;
+            }
+            remaining = n - half ;
+            return new NodeSpliterator(start, half, expectedModCount) ;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action){
+            if (remaining() == 0) return false ;
+            int value = node.value ;
+            node = node.next ;
+            remaining-- ;
+            action.accept(value);
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+            return true ;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action){
+            int n = remaining() ;
+            Node current = node ;
+            // checked before every step: a visitor that unlinks later nodes must get a
+            // CME, not a walk into null or into recycled pool nodes
+            for (int i = 0; i < n && modCount == expectedModCount; i++){
+                action.accept(current.value);
+                current = current.next ;
+            }
+            node = current ;
+            remaining = 0 ;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+        }
+
+        @Override
+        public long estimateSize(){
+            return remaining() ;
+        }
+
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL ;
         }
     }
 }
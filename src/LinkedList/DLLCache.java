@@ -0,0 +1,218 @@
+package LinkedList;
+
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongBiFunction;
+
+// bounded cache: a HashMap finds the node in O(1) and DLL links keep the eviction order.
+// LRU keeps one list, most recently used at head, evicting from tail.
+// LFU keeps a list of frequency buckets (lowest first), each bucket being a DLL in
+// recency order, so both "bump frequency" and "evict least frequent" are O(1).
+// not thread-safe, see SegmentedDLLCache for the concurrent version.
+public class DLLCache<K, V> {
+    public enum Policy { LRU, LFU }
+
+    private final Policy policy ;
+    private final long maxWeight ;
+    private final HashMap<K, Node<K, V>> index = new HashMap<>() ;
+    private Bucket<K, V> lowest ; // LRU uses this single bucket for everything
+    private long weight ;
+    private ToLongBiFunction<? super K, ? super V> weigher = (k, v) -> 1 ;
+    private BiConsumer<? super K, ? super V> evictionListener = (k, v) -> { } ;
+
+    private long hits ;
+    private long misses ;
+    private long evictions ;
+
+    private static class Node<K, V>{
+        final K key ;
+        V value ;
+        long weight ;
+        Node<K, V> next, prev ;
+        Bucket<K, V> bucket ;
+
+        Node(K key, V value, long weight){
+            this.key = key ;
+            this.value = value ;
+            this.weight = weight ;
+        }
+    }
+
+    private static class Bucket<K, V>{
+        final long frequency ;
+        Node<K, V> head, tail ;
+        Bucket<K, V> next, prev ;
+
+        Bucket(long frequency){
+            this.frequency = frequency ;
+        }
+
+        void insertFirst(Node<K, V> node){
+            node.bucket = this ;
+            node.prev = null ;
+            node.next = head ;
+            if (head != null){
+                head.prev = node ;
+            } else {
+                tail = node ;
+            }
+            head = node ;
+        }
+
+        void unlink(Node<K, V> node){
+            if (node.prev != null) node.prev.next = node.next ; else head = node.next ;
+            if (node.next != null) node.next.prev = node.prev ; else tail = node.prev ;
+            node.next = null ;
+            node.prev = null ;
+        }
+    }
+
+    // maxWeight is the maximum entry count unless a weigher is set. an entry heavier
+    // than maxWeight is never stored; put hands it straight to the eviction listener
+    public DLLCache(Policy policy, long maxWeight){
+        if (maxWeight <= 0) throw new IllegalArgumentException("maxWeight must be positive") ;
+        this.policy = policy ;
+        this.maxWeight = maxWeight ;
+    }
+
+    public DLLCache<K, V> weigher(ToLongBiFunction<? super K, ? super V> weigher){
+        this.weigher = weigher ;
+        return this ;
+    }
+
+    public DLLCache<K, V> onEviction(BiConsumer<? super K, ? super V> listener){
+        this.evictionListener = listener ;
+        return this ;
+    }
+
+    public V get(K key){
+        Node<K, V> node = index.get(key) ;
+        if (node == null){
+            misses++ ;
+            return null ;
+        }
+        hits++ ;
+        touch(node);
+        return node.value ;
+    }
+
+    public void put(K key, V value){
+        long w = weigher.applyAsLong(key, value) ;
+        if (w < 0) throw new IllegalArgumentException("negative weight") ;
+        if (w > maxWeight){
+            // can never fit: reject it up front instead of flushing the whole cache and
+            // still ending up over the bound. an older value under the key is dropped too,
+            // so a get never returns what this put replaced; the listener sees both
+            Node<K, V> old = index.remove(key) ;
+            if (old != null){
+                detach(old);
+                evictions++ ;
+                evictionListener.accept(old.key, old.value);
+            }
+            evictions++ ;
+            evictionListener.accept(key, value);
+            return ;
+        }
+        Node<K, V> node = index.get(key) ;
+        if (node != null){
+            weight += w - node.weight ;
+            node.value = value ;
+            node.weight = w ;
+            touch(node);
+            while (weight > maxWeight && lowest != null){
+                evict(lowest.tail);
+            }
+            return ;
+        }
+        // make room first, otherwise LFU would pick the newcomer (frequency 1) as the victim
+        while (weight + w > maxWeight && lowest != null){
+            evict(lowest.tail);
+        }
+        node = new Node<>(key, value, w) ;
+        index.put(key, node) ;
+        weight += w ;
+        firstBucket().insertFirst(node);
+    }
+
+    public V remove(K key){
+        Node<K, V> node = index.remove(key) ;
+        if (node == null) return null ;
+        detach(node);
+        return node.value ;
+    }
+
+    public boolean containsKey(K key){
+        return index.containsKey(key) ;
+    }
+
+    public int size(){
+        return index.size() ;
+    }
+
+    public long weight(){
+        return weight ;
+    }
+
+    public long hitCount(){
+        return hits ;
+    }
+
+    public long missCount(){
+        return misses ;
+    }
+
+    public long evictionCount(){
+        return evictions ;
+    }
+
+    private void evict(Node<K, V> victim){
+        index.remove(victim.key) ;
+        detach(victim);
+        evictions++ ;
+        evictionListener.accept(victim.key, victim.value);
+    }
+
+    private void detach(Node<K, V> node){
+        Bucket<K, V> bucket = node.bucket ;
+        bucket.unlink(node);
+        weight -= node.weight ;
+        if (bucket.head == null) removeBucket(bucket);
+    }
+
+    private void touch(Node<K, V> node){
+        Bucket<K, V> bucket = node.bucket ;
+        if (policy == Policy.LRU){
+            if (bucket.head == node) return ;
+            bucket.unlink(node);
+            bucket.insertFirst(node);
+            return ;
+        }
+        Bucket<K, V> next = bucket.next ;
+        if (next == null || next.frequency != bucket.frequency + 1){
+            next = new Bucket<>(bucket.frequency + 1) ;
+            next.prev = bucket ;
+            next.next = bucket.next ;
+            if (bucket.next != null) bucket.next.prev = next ;
+            bucket.next = next ;
+        }
+        bucket.unlink(node);
+        next.insertFirst(node);
+        if (bucket.head == null) removeBucket(bucket);
+    }
+
+    // new entries start at frequency 1, i.e. the lowest bucket if it has that frequency
+    private Bucket<K, V> firstBucket(){
+        if (lowest == null || lowest.frequency != 1){
+            Bucket<K, V> bucket = new Bucket<>(1) ;
+            bucket.next = lowest ;
+            if (lowest != null) lowest.prev = bucket ;
+            lowest = bucket ;
+        }
+        return lowest ;
+    }
+
+    private void removeBucket(Bucket<K, V> bucket){
+        if (bucket.prev != null) bucket.prev.next = bucket.next ; else lowest = bucket.next ;
+        if (bucket.next != null) bucket.next.prev = bucket.prev ;
+    }
+}
@@ -0,0 +1,183 @@
+package LinkedList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+// LL with skip-list levels on top of the base chain. every forward link also stores its
+// span (how many base nodes it jumps over), so a position can be reached by skipping
+// from the top level down: insert-at-index and get-at-index are O(log n) expected.
+// delete by value finds the node through a value -> nodes index, recovers its position
+// by walking prev links back up the towers, then unlinks by position.
+public class IndexedLL {
+    private static final int MAX_LEVEL = 32 ;
+
+    private final Node head = new Node(0, MAX_LEVEL) ;
+    private final HashMap<Integer, ArrayList<Node>> byValue = new HashMap<>() ;
+    // search scratch space, reused so positional operations don't allocate
+    private final Node[] update = new Node[MAX_LEVEL] ;
+    private final int[] rank = new int[MAX_LEVEL] ;
+    private int level = 1 ;
+    private int seed = 0x2545F491 ;
+    int size ;
+
+    private static class Node{
+        int value ;
+        final Node[] next ;
+        final Node[] prev ;
+        // span[i] = rank(next[i]) - rank(this), with rank(null) = size + 1
+        final int[] span ;
+
+        Node(int value, int height){
+            this.value = value ;
+            this.next = new Node[height] ;
+            this.prev = new Node[height] ;
+            this.span = new int[height] ;
+        }
+    }
+
+    public IndexedLL(){
+        this.size = 0 ;
+        head.span[0] = 1 ;
+    }
+
+    public void insertFirst(int value){
+        insert(0, value);
+    }
+
+    public void append(int value){
+        insert(size, value);
+    }
+
+    public void append(int index, int value){
+        if (index < 0 || index > size) return ;
+        insert(index, value);
+    }
+
+    public int get(int index){
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index: " + index + ", size: " + size) ;
+        Node x = head ;
+        int traversed = 0 ;
+        for (int lvl = level - 1; lvl >= 0; lvl--){
+            while (x.next[lvl] != null && traversed + x.span[lvl] <= index + 1){
+                traversed += x.span[lvl] ;
+                x = x.next[lvl] ;
+            }
+        }
+        return x.value ;
+    }
+
+    // removes the first node holding val
+    public void delete(int val){
+        ArrayList<Node> nodes = byValue.get(val) ;
+        if (nodes == null) return ;
+        Node first = null ;
+        int firstRank = Integer.MAX_VALUE ;
+        for (Node node : nodes){
+            int r = rank(node) ;
+            if (r < firstRank){
+                firstRank = r ;
+                first = node ;
+            }
+        }
+        nodes.remove(first) ;
+        if (nodes.isEmpty()) byValue.remove(val) ;
+        removeAt(firstRank);
+    }
+
+    public void traverse(){
+        Node temp = head.next[0] ;
+        while(temp != null){
+            System.out.println(temp.value);
+            temp = temp.next[0] ;
+        }
+        System.out.println("size -> "+this.size);
+    }
+
+    private void insert(int index, int value){
+        Node x = head ;
+        for (int lvl = level - 1; lvl >= 0; lvl--){
+            rank[lvl] = lvl == level - 1 ? 0 : rank[lvl + 1] ;
+            while (x.next[lvl] != null && rank[lvl] + x.span[lvl] <= index){
+                rank[lvl] += x.span[lvl] ;
+                x = x.next[lvl] ;
+            }
+            update[lvl] = x ;
+        }
+        int height = randomHeight() ;
+        if (height > level){
+            for (int lvl = level; lvl < height; lvl++){
+                rank[lvl] = 0 ;
+                update[lvl] = head ;
+                head.span[lvl] = size + 1 ;
+            }
+            level = height ;
+        }
+        Node node = new Node(value, height) ;
+        for (int lvl = 0; lvl < height; lvl++){
+            Node pred = update[lvl] ;
+            node.next[lvl] = pred.next[lvl] ;
+            node.prev[lvl] = pred ;
+            if (pred.next[lvl] != null) pred.next[lvl].prev[lvl] = node ;
+            pred.next[lvl] = node ;
+            node.span[lvl] = pred.span[lvl] - (rank[0] - rank[lvl]) ;
+            pred.span[lvl] = rank[0] - rank[lvl] + 1 ;
+        }
+        for (int lvl = height; lvl < level; lvl++){
+            update[lvl].span[lvl]++ ;
+        }
+        byValue.computeIfAbsent(value, k -> new ArrayList<>(1)).add(node) ;
+        this.size++ ;
+    }
+
+    // unlinks the node at 1-based rank r
+    private void removeAt(int r){
+        Node x = head ;
+        int traversed = 0 ;
+        for (int lvl = level - 1; lvl >= 0; lvl--){
+            while (x.next[lvl] != null && traversed + x.span[lvl] < r){
+                traversed += x.span[lvl] ;
+                x = x.next[lvl] ;
+            }
+            update[lvl] = x ;
+        }
+        Node node = update[0].next[0] ;
+        for (int lvl = 0; lvl < level; lvl++){
+            Node pred = update[lvl] ;
+            if (pred.next[lvl] == node){
+                pred.span[lvl] += node.span[lvl] - 1 ;
+                pred.next[lvl] = node.next[lvl] ;
+                if (node.next[lvl] != null) node.next[lvl].prev[lvl] = pred ;
+            } else {
+                pred.span[lvl]-- ;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null){
+            level-- ;
+        }
+        this.size-- ;
+    }
+
+    // walks back along the highest link of each tower, summing spans, until it reaches head
+    private int rank(Node node){
+        int r = 0 ;
+        Node x = node ;
+        while (x != head){
+            int lvl = x.next.length - 1 ;
+            Node pred = x.prev[lvl] ;
+            r += pred.span[lvl] ;
+            x = pred ;
+        }
+        return r ;
+    }
+
+    // geometric with p = 1/4, like Redis sorted sets
+    private int randomHeight(){
+        int s = seed ;
+        s ^= s << 13 ;
+        s ^= s >>> 17 ;
+        s ^= s << 5 ;
+        seed = s ;
+        int height = 1 + Integer.numberOfTrailingZeros(s | (1 << 30)) / 2 ;
+        return Math.min(height, MAX_LEVEL) ;
+    }
+}
@@ -0,0 +1,197 @@
+package LinkedList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32C;
+
+// compact binary form for checkpointing int lists, written straight from a traversal
+// and read back block by block, so neither side needs the whole list as an array.
+//
+//   header   magic "ILB1", version, value count             (3 x int, little endian)
+//   block    value count n (1..BLOCK), payload bytes, payload
+//   ...
+//   end      0, 0, CRC32C of every block (headers included)
+//
+// a payload is n zigzag varints, each the difference to the previous value; the first
+// value of a block is taken against 0, so blocks decode on their own. sorted or
+// clustered data mostly costs 1-2 bytes per value, random data at most 5
+final class IntBlockCodec {
+    static final int BLOCK = 1 << 12 ;
+
+    private static final int MAGIC = 0x3142_4c49 ;     // "ILB1"
+    private static final int VERSION = 1 ;
+    private static final int HEADER = 12 ;
+    private static final int BLOCK_HEADER = 8 ;
+    private static final int CAPACITY = 1 << 16 ;    // always holds a full block
+
+    private IntBlockCodec(){
+    }
+
+    static final class Encoder implements IntConsumer {
+        private final WritableByteChannel channel ;
+        private final int count ;
+        private final byte[] bytes = new byte[CAPACITY] ;
+        private final ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN) ;
+        private final CRC32C crc = new CRC32C() ;
+        private int pos ;
+        private int blockStart ;
+        private int inBlock ;
+        private int previous ;
+        private int written ;
+
+        Encoder(WritableByteChannel channel, int count){
+            this.channel = channel ;
+            this.count = count ;
+            buf.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, count) ;
+            pos = HEADER ;
+        }
+
+        @Override
+        public void accept(int value){
+            if (inBlock == 0){
+                if (CAPACITY - pos < BLOCK_HEADER + 5 * BLOCK) drain();
+                blockStart = pos ;
+                pos += BLOCK_HEADER ;
+                previous = 0 ;
+            }
+            int delta = value - previous ;   // wraps; the decoder wraps back the same way
+            previous = value ;
+            int z = (delta << 1) ^ (delta >> 31) ;
+            byte[] b = bytes ;
+            int p = pos ;
+            while ((z & ~0x7F) != 0){
+                b[p++] = (byte) ((z & 0x7F) | 0x80) ;
+                z >>>= 7 ;
+            }
+            b[p++] = (byte) z ;
+            pos = p ;
+            written++ ;
+            if (++inBlock == BLOCK) endBlock();
+        }
+
+        // closes the last block and writes the end marker; the channel is left open
+        void finish() throws IOException {
+            if (written != count){
+                throw new IllegalStateException("expected " + count + " values, got " + written) ;
+            }
+            if (inBlock > 0) endBlock();
+            if (CAPACITY - pos < BLOCK_HEADER + 4) drainChecked();
+            buf.putInt(pos, 0).putInt(pos + 4, 0).putInt(pos + 8, (int) crc.getValue()) ;
+            pos += BLOCK_HEADER + 4 ;
+            drainChecked();
+        }
+
+        private void endBlock(){
+            buf.putInt(blockStart, inBlock).putInt(blockStart + 4, pos - blockStart - BLOCK_HEADER) ;
+            crc.update(bytes, blockStart, pos - blockStart);
+            inBlock = 0 ;
+        }
+
+        // accept() cannot throw IOException, so a failed write surfaces from the
+        // traversal as unchecked and is unwrapped again by the caller
+        private void drain(){
+            try {
+                drainChecked();
+            } catch (IOException e){
+                throw new UncheckedIOException(e) ;
+            }
+        }
+
+        private void drainChecked() throws IOException {
+            buf.clear().limit(pos) ;
+            while (buf.hasRemaining()){
+                channel.write(buf) ;
+            }
+            buf.clear() ;
+            pos = 0 ;
+        }
+    }
+
+    static final class Decoder {
+        private final ReadableByteChannel channel ;
+        private final byte[] bytes = new byte[CAPACITY] ;
+        private final ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN) ;
+        private final CRC32C crc = new CRC32C() ;
+        private final int count ;
+        private int read ;
+        private boolean done ;
+
+        Decoder(ReadableByteChannel channel) throws IOException {
+            this.channel = channel ;
+            buf.limit(0) ;
+            fill(HEADER);
+            if (buf.getInt() != MAGIC) throw new IOException("not an int list checkpoint") ;
+            int version = buf.getInt() ;
+            if (version != VERSION) throw new IOException("unsupported int list checkpoint version " + version) ;
+            count = buf.getInt() ;
+            if (count < 0) throw new IOException("corrupt int list checkpoint header") ;
+        }
+
+        int count(){
+            return count ;
+        }
+
+        // decodes the next block into values (at least BLOCK long) and returns how many
+        // it held; returns 0 once the end marker has been read and the checksum matched
+        int nextBlock(int[] values) throws IOException {
+            if (done) return 0 ;
+            fill(BLOCK_HEADER);
+            int n = buf.getInt() ;
+            int length = buf.getInt() ;
+            if (n == 0 && length == 0){
+                fill(4);
+                if (buf.getInt() != (int) crc.getValue()) throw new IOException("int list checkpoint checksum mismatch") ;
+                if (read != count) throw new IOException("int list checkpoint holds " + read + " values, header says " + count) ;
+                done = true ;
+                return 0 ;
+            }
+            if (n < 0 || n > BLOCK || length < n || length > 5 * n){
+                throw new IOException("corrupt int list checkpoint block") ;
+            }
+            fill(length);
+            byte[] b = bytes ;
+            int p = buf.position() ;
+            int end = p + length ;
+            int previous = 0 ;
+            for (int i = 0; i < n; i++){
+                int z = 0 ;
+                int shift = 0 ;
+                byte x ;
+                do {
+                    if (p == end || shift == 35) throw new IOException("corrupt int list checkpoint block") ;
+                    x = b[p++] ;
+                    z |= (x & 0x7F) << shift ;
+                    shift += 7 ;
+                } while (x < 0) ;
+                previous += (z >>> 1) ^ -(z & 1) ;
+                values[i] = previous ;
+            }
+            if (p != end) throw new IOException("corrupt int list checkpoint block") ;
+            // fill() kept the block header in the array right before the payload
+            int start = end - length - BLOCK_HEADER ;
+            crc.update(b, start, end - start);
+            buf.position(end) ;
+            read += n ;
+            return n ;
+        }
+
+        // makes sure at least need bytes are buffered; keeps the current block header
+        // (8 bytes) in front of the payload so the checksum can run over both
+        private void fill(int need) throws IOException {
+            if (buf.remaining() >= need) return ;
+            int keep = Math.min(buf.position(), BLOCK_HEADER) ;
+            buf.position(buf.position() - keep) ;
+            buf.compact() ;
+            while (buf.position() < keep + need){
+                if (channel.read(buf) < 0) throw new IOException("truncated int list checkpoint") ;
+            }
+            buf.flip() ;
+            buf.position(keep) ;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package LinkedList;
+
+// the part of a node LL, DLL and CLL have in common: a value and a next link. N is the
+// list's own node type, so `node.next` still reads as that type in each list.
+// also home of the merge sort the three lists share; it works on the next links only,
+// each list fixes up its tail (and prev links, or the ring) afterwards
+abstract class IntNode<N extends IntNode<N>> {
+    int value ;
+    N next ;
+
+    IntNode(int value){
+        this.value = value ;
+    }
+
+    // stable merge sort over natural runs of a null terminated chain, allocating no
+    // nodes; returns the new first node. runs are merged like a binary counter (2 runs,
+    // then 4, ...), so the small merges stay in cache; descending runs are flipped as
+    // they are taken, and sorted input costs one pass
+    @SuppressWarnings("unchecked")
+    static <N extends IntNode<N>> N sort(N head){
+        // pending[i] holds the merge of 2^i runs, or null; a run count fits in 31 bits
+        IntNode<?>[] pending = new IntNode<?>[32] ;
+        N cursor = head ;
+        while (cursor != null){
+            N run = cursor ;
+            N node = cursor.next ;
+            if (node != null && node.value < cursor.value){
+                // strictly descending: reverse while taking it
+                N prev = cursor ;
+                prev.next = null ;
+                while (node != null && node.value < prev.value){
+                    N next = node.next ;
+                    node.next = prev ;
+                    prev = node ;
+                    node = next ;
+                }
+                run = prev ;
+            } else {
+                N last = cursor ;
+                while (node != null && last.value <= node.value){
+                    last = node ;
+                    node = node.next ;
+                }
+                last.next = null ;
+            }
+            cursor = node ;
+            // carry: pending runs hold earlier nodes, so they go first
+            int i = 0 ;
+            for (; pending[i] != null; i++){
+                run = merge((N) pending[i], run) ;
+                pending[i] = null ;
+            }
+            pending[i] = run ;
+        }
+        N sorted = null ;
+        for (IntNode<?> run : pending){
+            if (run != null) sorted = sorted == null ? (N) run : merge((N) run, sorted) ;
+        }
+        return sorted ;
+    }
+
+    // on ties `a` goes first, which keeps the sort stable
+    private static <N extends IntNode<N>> N merge(N a, N b){
+        N head ;
+        if (b.value < a.value){
+            head = b ;
+            b = b.next ;
+        } else {
+            head = a ;
+            a = a.next ;
+        }
+        N last = head ;
+        while (a != null && b != null){
+            if (b.value < a.value){
+                last.next = b ;
+                last = b ;
+                b = b.next ;
+            } else {
+                last.next = a ;
+                last = a ;
+                a = a.next ;
+            }
+        }
+        last.next = a != null ? a : b ;
+        return head ;
+    }
+}
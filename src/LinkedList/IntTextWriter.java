@@ -0,0 +1,88 @@
+package LinkedList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntConsumer;
+
+// formats ints as decimal text into one reusable buffer and hands it to the channel in
+// 64 KB writes, instead of a println (stream lock + flush) per element. used as the
+// visitor for the lists' forEach, so a dump is bound by I/O rather than by locking
+final class IntTextWriter implements IntConsumer {
+    private static final int CAPACITY = 1 << 16 ;
+
+    private final WritableByteChannel channel ;
+    private final boolean stdout ;
+    private final byte[] bytes = new byte[CAPACITY] ;
+    private final ByteBuffer buf = ByteBuffer.wrap(bytes) ;
+    private final byte[] separator ;
+    private final byte[] digits = new byte[11] ;   // "-2147483648"
+    private int pos ;
+
+    IntTextWriter(WritableByteChannel channel, String separator){
+        this(channel, separator, false) ;
+    }
+
+    private IntTextWriter(WritableByteChannel channel, String separator, boolean stdout){
+        this.channel = channel ;
+        this.stdout = stdout ;
+        this.separator = separator.getBytes(StandardCharsets.US_ASCII) ;
+    }
+
+    // System.out as a channel; writes go through the same PrintStream as println, so
+    // output order is kept
+    static IntTextWriter stdout(String separator){
+        return new IntTextWriter(Channels.newChannel(System.out), separator, true) ;
+    }
+
+    @Override
+    public void accept(int value){
+        if (CAPACITY - pos < digits.length + separator.length) drain();
+        int i = digits.length ;
+        // work on the negative value so Integer.MIN_VALUE needs no special case
+        int v = value < 0 ? value : -value ;
+        do {
+            digits[--i] = (byte) ('0' - v % 10) ;
+            v /= 10 ;
+        } while (v != 0) ;
+        if (value < 0) digits[--i] = '-' ;
+        int len = digits.length - i ;
+        System.arraycopy(digits, i, bytes, pos, len);
+        pos += len ;
+        System.arraycopy(separator, 0, bytes, pos, separator.length);
+        pos += separator.length ;
+    }
+
+    void text(String s){
+        byte[] b = s.getBytes(StandardCharsets.UTF_8) ;
+        int off = 0 ;
+        while (off < b.length){
+            if (pos == CAPACITY) drain();
+            int n = Math.min(CAPACITY - pos, b.length - off) ;
+            System.arraycopy(b, off, bytes, pos, n);
+            pos += n ;
+            off += n ;
+        }
+    }
+
+    // writes out whatever is buffered; does not close the channel
+    void flush(){
+        drain();
+        if (stdout) System.out.flush();
+    }
+
+    private void drain(){
+        buf.clear().limit(pos) ;
+        try {
+            while (buf.hasRemaining()){
+                channel.write(buf) ;
+            }
+        } catch (IOException e){
+            throw new UncheckedIOException(e) ;
+        }
+        pos = 0 ;
+    }
+}
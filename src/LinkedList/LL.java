@@ -1,95 +1,398 @@
 package LinkedList;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 public class LL {
+    // below this many elements a spliterator stops splitting; the walk to the middle
+    // would cost more than the parallelism gains
+    private static final int MIN_SPLIT = 1 << 10 ;
+
     Node head ;
+    Node tail ;
     int size ;
+    private final NodePool<Node> pool = new NodePool<>() ;
+    // bumped by every structural change, so iterators and spliterators fail fast
+    private int modCount ;
     public LL(){
         this.size = 0 ;
     }
 
     public void insertFirst(int value){
-        Node node = new Node(value) ;
+        Node node = takeNode(value) ;
         node.next = head ;
         head = node ;
+        if (tail == null){
+            tail = node ;
+        }
         this.size++ ;
+        modCount++ ;
 
     }
 
     public void traverse(){
-        Node temp = head ;
-        while(temp != null){
-            System.out.println(temp.value);
-            temp = temp.next ;
+        IntTextWriter out = IntTextWriter.stdout(System.lineSeparator()) ;
+        forEach(out);
+        out.text("size -> " + this.size + System.lineSeparator());
+        out.flush();
+    }
+
+    // visits every value head to tail; fails fast if the visitor changes the list
+    public void forEach(IntConsumer action){
+        int expected = modCount ;
+        for (Node node = head; node != null && modCount == expected; node = node.next){
+            action.accept(node.value);
+        }
+        if (modCount != expected) throw new ConcurrentModificationException() ;
+    }
+
+    // one value per line, formatted into a reusable buffer and written in large chunks;
+    // the channel is left open
+    public void writeTo(WritableByteChannel out){
+        IntTextWriter writer = new IntTextWriter(out, "\n") ;
+        forEach(writer);
+        writer.flush();
+    }
+
+    // compact binary checkpoint (see IntBlockCodec), encoded block by block during
+    // the traversal; the channel is left open
+    public void writeBinaryTo(WritableByteChannel out) throws IOException {
+        IntBlockCodec.Encoder encoder = new IntBlockCodec.Encoder(out, size) ;
+        try {
+            forEach(encoder);
+        } catch (UncheckedIOException e){
+            throw e.getCause() ;
         }
-        System.out.println("size -> "+this.size);
+        encoder.finish();
     }
 
+    // reads a checkpoint written by writeBinaryTo; each decoded block is linked in with
+    // one appendAll. a truncated or corrupt stream fails before the list is returned
+    public static LL readBinaryFrom(ReadableByteChannel in) throws IOException {
+        IntBlockCodec.Decoder decoder = new IntBlockCodec.Decoder(in) ;
+        LL list = new LL() ;
+        int[] block = new int[IntBlockCodec.BLOCK] ;
+        int n ;
+        while ((n = decoder.nextBlock(block)) > 0){
+            list.appendAll(block, 0, n);
+        }
+        return list ;
+    }
+
+    // O(1): we keep a reference to the last node instead of walking from head
     public void append(int val){
-        Node newNode = new Node(val) ;
+        Node newNode = takeNode(val) ;
         if (head == null){
             head = newNode ;
+            tail = newNode ;
+            this.size++ ;
+            modCount++ ;
             return ;
         }
-        Node temp = head ;
-        while (temp.next != null){
-            temp = temp.next ;
-        }
-        temp.next = newNode ;
+        tail.next = newNode ;
+        tail = newNode ;
         this.size++ ;
+        modCount++ ;
 
     }
 
-    public void append(int index, int value){
-        if (index > size)  return ;
-        if (index == size){
-            this.append(value); ;
-            return ;
+    // links the whole batch in one pass and bumps size once
+    public void appendAll(int[] values){
+        appendAll(values, 0, values.length);
+    }
+
+    public void appendAll(int[] values, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (length == 0) return ;
+        Node first = takeNode(values[offset]) ;
+        Node last = first ;
+        for (int i = offset + 1; i < offset + length; i++){
+            last.next = takeNode(values[i]) ;
+            last = last.next ;
         }
-        Node node = new Node(value) ;
+        link(first, last, length);
+    }
+
+    public void appendAll(IntStream values){
+        Node[] ends = new Node[2] ;
+        int[] cnt = new int[1] ;
+        values.sequential().forEachOrdered(v -> {
+            Node node = takeNode(v) ;
+            if (ends[0] == null){
+                ends[0] = node ;
+            } else {
+                ends[1].next = node ;
+            }
+            ends[1] = node ;
+            cnt[0]++ ;
+        });
+        if (cnt[0] == 0) return ;
+        link(ends[0], ends[1], cnt[0]);
+    }
+
+    private void link(Node first, Node last, int count){
         if (head == null){
-            head = node ;
+            head = first ;
+        } else {
+            tail.next = first ;
+        }
+        tail = last ;
+        this.size += count ;
+        modCount++ ;
+    }
+
+    public void append(int index, int value){
+        if (index < 0 || index > size)  return ;
+        if (index == size){
+            this.append(value);
             return ;
         }
+        Node node = takeNode(value) ;
         if (index == 0){
             node.next = head ;
             head = node ;
+            this.size++ ;
+            modCount++ ;
             return ;
         }
         Node temp = head ;
-        int cnt = 0 ;
-        while (temp.next != null && cnt < index){
+        int cnt = 1 ;
+        while (cnt < index){
             temp = temp.next ;
             cnt++ ;
         }
-        if (temp.next != null){
-            node.next = temp.next ;
-            temp.next = node ;
-            this.size++ ;
-        }
+        node.next = temp.next ;
+        temp.next = node ;
+        this.size++ ;
+        modCount++ ;
 
     }
     public void delete(int val){
+        if (head == null) return ;
+        if (head.value == val){
+            Node removed = head ;
+            head = head.next ;
+            if (head == null) tail = null ;
+            recycle(removed);
+            this.size-- ;
+            modCount++ ;
+            return ;
+        }
         Node temp = head ;
-        while (temp != null && temp.next.value != val){
+        while (temp.next != null && temp.next.value != val){
             temp = temp.next ;
         }
-        if (temp.next.value == val){
-            temp.next= temp.next.next ;
+        if (temp.next != null){
+            Node removed = temp.next ;
+            if (removed == tail) tail = temp ;
+            temp.next= removed.next ;
+            recycle(removed);
+            this.size-- ;
+            modCount++ ;
         }
-        this.size-- ;
 
     }
-    private class Node{
-        int value ;
-        Node next ;
 
+    public int[] toArray(){
+        int[] values = new int[size] ;
+        int i = 0 ;
+        for (Node node = head; node != null; node = node.next){
+            values[i++] = node.value ;
+        }
+        return values ;
+    }
+
+    // in place, only the links change
+    public void reverse(){
+        reverse(0, size);
+    }
+
+    // reverses positions from..to-1 in place (0-based, `to` exclusive)
+    public void reverse(int from, int to){
+        Objects.checkFromToIndex(from, to, size) ;
+        if (to - from < 2) return ;
+        modCount++ ;
+        Node before = null ;
+        Node node = head ;
+        for (int i = 0; i < from; i++){
+            before = node ;
+            node = node.next ;
+        }
+        Node first = node ;
+        Node prev = null ;
+        for (int i = from; i < to; i++){
+            Node next = node.next ;
+            node.next = prev ;
+            prev = node ;
+            node = next ;
+        }
+        // prev is the new start of the range, first its new end, node what follows it
+        first.next = node ;
+        if (before == null) head = prev ; else before.next = prev ;
+        if (node == null) tail = first ;
+    }
+
+    // stable merge sort over natural runs, allocating no nodes (see IntNode.sort)
+    public void sort(){
+        if (size < 2) return ;
+        modCount++ ;
+        head = IntNode.sort(head) ;
+        Node node = head ;
+        while (node.next != null) node = node.next ;
+        tail = node ;
+    }
+
+    public PrimitiveIterator.OfInt iterator(){
+        return new PrimitiveIterator.OfInt() {
+            private Node node = head ;
+            private int remaining = size ;
+            private final int expectedModCount = modCount ;
+
+            @Override
+            public boolean hasNext(){
+                return remaining > 0 ;
+            }
+
+            @Override
+            public int nextInt(){
+                if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+                if (remaining == 0) throw new NoSuchElementException() ;
+                int value = node.value ;
+                node = node.next ;
+                remaining-- ;
+                return value ;
+            }
+        };
+    }
+
+    public Spliterator.OfInt spliterator(){
+        return new NodeSpliterator(null, -1, 0) ;
+    }
+
+    public IntStream stream(){
+        return StreamSupport.intStream(spliterator(), false) ;
+    }
+
+    public IntStream parallelStream(){
+        return StreamSupport.intStream(spliterator(), true) ;
+    }
+
+    // keeps up to `capacity` deleted nodes around so later inserts don't allocate
+    public void setPoolCapacity(int capacity){
+        pool.setCapacity(capacity);
+    }
+
+    // shrinks the pool to `keep` nodes
+    public void trimPool(int keep){
+        pool.trim(keep);
+    }
+
+    public void trimPool(){
+        pool.trim(0);
+    }
+
+    private Node takeNode(int value){
+        Node node = pool.take() ;
+        if (node == null) return new Node(value) ;
+        node.value = value ;
+        return node ;
+    }
+
+    private void recycle(Node node){
+        pool.offer(node);
+    }
+
+    private class Node extends IntNode<Node> {
         public Node(int value){
-            this.value = value ;
+            super(value) ;
         }
 
         public Node (int value, Node next){
-            this.value = value ;
+            super(value) ;
             this.next= next ;
         }
     }
+
+    // walks a known number of nodes from `node`; splitting skips ahead half of them, so
+    // each half knows its exact size. binds to head and size on first use
+    private final class NodeSpliterator implements Spliterator.OfInt {
+        private Node node ;
+        private int remaining ;     // -1 until bound
+        private int expectedModCount ;
+
+        NodeSpliterator(Node node, int remaining, int expectedModCount){
+            this.node = node ;
+            this.remaining = remaining ;
+            this.expectedModCount = expectedModCount ;
+        }
+
+        private int remaining(){
+            if (remaining < 0){
+                node = head ;
+                remaining = size ;
+                expectedModCount = modCount ;
+            }
+            return remaining ;
+        }
+
+        @Override
+        public NodeSpliterator trySplit(){
+            int n = remaining() ;
+            if (n < MIN_SPLIT) return null ;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+            int half = n >>> 1 ;
+            Node start = node ;
+            for (int i = 0; i < half; i++){
+                node = node.next ;
+            }
+            remaining = n - half ;
+            return new NodeSpliterator(start, half, expectedModCount) ;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action){
+            if (remaining() == 0) return false ;
+            int value = node.value ;
+            node = node.next ;
+            remaining-- ;
+            action.accept(value);
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+            return true ;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action){
+            int n = remaining() ;
+            Node current = node ;
+            // checked before every step: a visitor that unlinks later nodes must get a
+            // CME, not a walk into null or into recycled pool nodes
+            for (int i = 0; i < n && modCount == expectedModCount; i++){
+                action.accept(current.value);
+                current = current.next ;
+            }
+            node = current ;
+            remaining = 0 ;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException() ;
+        }
+
+        @Override
+        public long estimateSize(){
+            return remaining() ;
+        }
+
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL ;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package LinkedList;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// producer/consumer throughput: producers offerLast, consumers pollFirst,
+// compared against java.util.concurrent.ConcurrentLinkedDeque
+public class MainConcurrentDLL {
+    public static void main(String[] args) throws InterruptedException {
+        int pairs = args.length > 0 ? Integer.parseInt(args[0]) : Math.max(1, Runtime.getRuntime().availableProcessors() / 2) ;
+        int perProducer = 1_000_000 ;
+
+        ConcurrentDLL<Integer> deque = new ConcurrentDLL<>() ;
+        run("ConcurrentDLL", pairs, perProducer, deque::offerLast, deque::pollFirst);
+
+        ConcurrentDLL<Integer> bounded = new ConcurrentDLL<>(1024) ;
+        run("ConcurrentDLL(1024) put/take", pairs, perProducer, v -> {
+            try {
+                bounded.putLast(v);
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        }, () -> {
+            try {
+                return bounded.takeFirst() ;
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+                return null ;
+            }
+        });
+
+        ConcurrentLinkedDeque<Integer> jdk = new ConcurrentLinkedDeque<>() ;
+        run("ConcurrentLinkedDeque", pairs, perProducer, jdk::offerLast, jdk::pollFirst);
+    }
+
+    private static void run(String name, int pairs, int perProducer, Consumer<Integer> offer, Supplier<Integer> poll)
+            throws InterruptedException {
+        AtomicLong sum = new AtomicLong() ;
+        Thread[] threads = new Thread[pairs * 2] ;
+        for (int p = 0; p < pairs; p++){
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) offer.accept(i);
+            });
+            threads[pairs + p] = new Thread(() -> {
+                long local = 0 ;
+                int taken = 0 ;
+                while (taken < perProducer){
+                    Integer v = poll.get() ;
+                    if (v == null){
+                        Thread.onSpinWait();
+                        continue ;
+                    }
+                    local += v ;
+                    taken++ ;
+                }
+                sum.addAndGet(local) ;
+            });
+        }
+        long start = System.nanoTime() ;
+        for (Thread t : threads) t.start();
+        for (Thread t : threads) t.join();
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000) ;
+        long expected = (long) pairs * perProducer * (perProducer - 1L) / 2 ;
+        System.out.println(name + ": " + (pairs * (long) perProducer / elapsedMs) + " ops/ms, "
+                + (sum.get() == expected ? "ok" : "FAILED"));
+    }
+}
@@ -0,0 +1,200 @@
+package LinkedList;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// two checks:
+// 1. scaling report: every thread owns a disjoint range of values, so after all threads
+//    finish we know exactly which values must (not) be present
+// 2. linearizability: threads hammer a handful of shared keys with insert/delete/contains,
+//    every call is recorded with its invoke and response time, and each key's history
+//    must be explainable by some sequential order of a per-key counter (keys don't
+//    interact, so the histories can be checked one key at a time)
+public class MainConcurrentLL {
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() ;
+        int opsPerThread = 2_000 ;
+        System.out.println("threads\tops/ms\tcheck");
+        // doubling steps, but always ending on maxThreads itself
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)){
+            ConcurrentLL list = new ConcurrentLL() ;
+            List<Thread> workers = new ArrayList<>() ;
+            for (int t = 0; t < threads; t++){
+                int base = t * opsPerThread ;
+                workers.add(new Thread(() -> {
+                    for (int i = 0; i < opsPerThread; i++){
+                        if ((i & 1) == 0) list.insertFirst(base + i); else list.append(base + i);
+                        // delete every value divisible by 3 right after inserting it
+                        if (i % 3 == 0) list.delete(base + i) ;
+                        list.contains(base + i / 2) ;
+                    }
+                }));
+            }
+            long start = System.nanoTime() ;
+            for (Thread w : workers) w.start();
+            for (Thread w : workers) w.join();
+            long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000) ;
+
+            boolean ok = true ;
+            int expected = 0 ;
+            for (int v = 0; v < threads * opsPerThread; v++){
+                boolean shouldHave = (v % opsPerThread) % 3 != 0 ;
+                if (shouldHave) expected++ ;
+                if (list.contains(v) != shouldHave) ok = false ;
+            }
+            ok &= list.size() == expected ;
+            System.out.println(threads + "\t" + (threads * opsPerThread * 3L / elapsedMs) + "\t" + (ok ? "ok" : "FAILED"));
+            if (threads == maxThreads) break ;
+        }
+
+        // at least 4 threads even on a small machine, so calls really interleave
+        int threads = Math.max(4, maxThreads) ;
+        int rounds = 20 ;
+        int failures = 0 ;
+        long checked = 0 ;
+        for (int round = 0; round < rounds; round++){
+            History h = stress(threads, 4, 200, round) ;
+            checked += h.ops.size() ;
+            if (!h.linearizable()) failures++ ;
+        }
+        System.out.println("linearizability: " + threads + " threads, " + rounds + " rounds, "
+                + checked + " ops on 4 shared keys: " + (failures == 0 ? "ok" : failures + " rounds FAILED"));
+    }
+
+    static final int INSERT = 0, DELETE = 1, CONTAINS = 2 ;
+
+    static final class Op {
+        final int key ;
+        final int type ;
+        final boolean result ;
+        final long invoke ;
+        final long response ;
+
+        Op(int key, int type, boolean result, long invoke, long response){
+            this.key = key ;
+            this.type = type ;
+            this.result = result ;
+            this.invoke = invoke ;
+            this.response = response ;
+        }
+    }
+
+    // runs one round of random operations on `keys` shared keys and records every call
+    static History stress(int threads, int keys, int opsPerThread, long seed) throws InterruptedException {
+        ConcurrentLL list = new ConcurrentLL() ;
+        List<List<Op>> logs = new ArrayList<>() ;
+        List<Thread> workers = new ArrayList<>() ;
+        for (int t = 0; t < threads; t++){
+            List<Op> log = new ArrayList<>(opsPerThread) ;
+            logs.add(log) ;
+            Random random = new Random(seed * 31 + t) ;
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < opsPerThread; i++){
+                    int key = random.nextInt(keys) ;
+                    int type = random.nextInt(3) ;
+                    boolean result = true ;
+                    long invoke = System.nanoTime() ;
+                    if (type == INSERT){
+                        if (random.nextBoolean()) list.insertFirst(key); else list.append(key);
+                    } else if (type == DELETE){
+                        result = list.delete(key) ;
+                    } else {
+                        result = list.contains(key) ;
+                    }
+                    log.add(new Op(key, type, result, invoke, System.nanoTime())) ;
+                    if ((i & 7) == 0) Thread.yield();
+                }
+            }));
+        }
+        for (Thread w : workers) w.start();
+        for (Thread w : workers) w.join();
+
+        History history = new History(keys) ;
+        for (List<Op> log : logs) history.ops.addAll(log) ;
+        // drain what is left, so the final contents are part of the history too
+        long now = System.nanoTime() ;
+        for (int key = 0; key < keys; key++){
+            boolean removed ;
+            do {
+                removed = list.delete(key) ;
+                history.ops.add(new Op(key, DELETE, removed, now, now)) ;
+                now++ ;
+            } while (removed) ;
+        }
+        history.sizeAfterDrain = list.size() ;
+        return history ;
+    }
+
+    static final class History {
+        final int keys ;
+        final List<Op> ops = new ArrayList<>() ;
+        int sizeAfterDrain ;
+
+        History(int keys){
+            this.keys = keys ;
+        }
+
+        boolean linearizable(){
+            if (sizeAfterDrain != 0) return false ;
+            for (int key = 0; key < keys; key++){
+                List<Op> mine = new ArrayList<>() ;
+                for (Op op : ops) if (op.key == key) mine.add(op) ;
+                mine.sort((a, b) -> Long.compare(a.invoke, b.invoke));
+                if (!new KeyChecker(mine).check()) return false ;
+            }
+            return true ;
+        }
+    }
+
+    // Wing & Gong search: repeatedly pick an op that could take effect first (it was
+    // invoked before every remaining op responded), apply it to the sequential model
+    // (how many copies of the key the list holds), and backtrack on a mismatch.
+    // (linearized set, count) states already known to fail are not explored again
+    static final class KeyChecker {
+        private final List<Op> ops ;
+        private final BitSet done = new BitSet() ;
+        private final Set<List<Object>> failed = new HashSet<>() ;
+
+        KeyChecker(List<Op> ops){
+            this.ops = ops ;
+        }
+
+        boolean check(){
+            return search(0, 0) ;
+        }
+
+        private boolean search(int linearized, int count){
+            if (linearized == ops.size()) return true ;
+            List<Object> state = List.of(done.clone(), count) ;
+            if (failed.contains(state)) return false ;
+            long firstResponse = Long.MAX_VALUE ;
+            for (int i = done.nextClearBit(0); i < ops.size(); i = done.nextClearBit(i + 1)){
+                firstResponse = Math.min(firstResponse, ops.get(i).response) ;
+            }
+            for (int i = done.nextClearBit(0); i < ops.size(); i = done.nextClearBit(i + 1)){
+                Op op = ops.get(i) ;
+                if (op.invoke > firstResponse) break ;  // sorted by invoke: the rest are later too
+                int next ;
+                if (op.type == INSERT){
+                    next = count + 1 ;
+                } else if (op.type == DELETE){
+                    if (op.result != (count > 0)) continue ;
+                    next = op.result ? count - 1 : count ;
+                } else {
+                    if (op.result != (count > 0)) continue ;
+                    next = count ;
+                }
+                done.set(i);
+                boolean ok = search(linearized + 1, next) ;
+                done.clear(i);
+                if (ok) return true ;
+            }
+            failed.add(state) ;
+            return false ;
+        }
+    }
+}
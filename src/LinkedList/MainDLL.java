@@ -3,12 +3,15 @@ package LinkedList;
 public class MainDLL {
     public static void main(String[] args){
         DLL dll = new DLL() ;
+        dll.setPoolCapacity(8);
         dll.insertFirst(5);
         dll.insertFirst(51);
         dll.insertFirst(52);
         dll.insertFirst(54);
         dll.append(10);
         dll.append(11);
+        dll.delete(51);
+        dll.append(12);
         dll.traverseRev();
     }
 
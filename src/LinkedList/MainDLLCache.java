@@ -0,0 +1,31 @@
+package LinkedList;
+
+public class MainDLLCache {
+    public static void main(String[] args){
+        DLLCache<String, Integer> lru = new DLLCache<String, Integer>(DLLCache.Policy.LRU, 2)
+                .onEviction((k, v) -> System.out.println("LRU evicted " + k + "=" + v));
+        lru.put("a", 1);
+        lru.put("b", 2);
+        lru.get("a") ;
+        lru.put("c", 3); // evicts b
+        System.out.println("b cached? " + lru.containsKey("b"));
+
+        DLLCache<String, Integer> lfu = new DLLCache<String, Integer>(DLLCache.Policy.LFU, 2)
+                .onEviction((k, v) -> System.out.println("LFU evicted " + k + "=" + v));
+        lfu.put("a", 1);
+        lfu.put("b", 2);
+        lfu.get("a") ;
+        lfu.get("a") ;
+        lfu.get("b") ;
+        lfu.put("c", 3); // evicts b, it was used less often than a
+        lfu.put("d", 4); // evicts c
+        System.out.println("hits=" + lfu.hitCount() + " misses=" + lfu.missCount() + " evictions=" + lfu.evictionCount());
+
+        SegmentedDLLCache<Integer, String> shared = new SegmentedDLLCache<>(DLLCache.Policy.LRU, 1024, 16) ;
+        for (int i = 0; i < 4096; i++){
+            shared.put(i, "v" + i);
+            shared.get(i / 2) ;
+        }
+        System.out.println("size=" + shared.size() + " hits=" + shared.hitCount() + " evictions=" + shared.evictionCount());
+    }
+}
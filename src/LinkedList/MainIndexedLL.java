@@ -0,0 +1,20 @@
+package LinkedList;
+
+public class MainIndexedLL {
+    public static void main (String[] args){
+        IndexedLL ll = new IndexedLL() ;
+        ll.insertFirst(5);
+        ll.insertFirst(3);
+
+        ll.append(10);
+        ll.append(0, 47) ;
+        ll.append(2, 48) ;
+        ll.append(3, 49) ;
+        ll.append(5, 50) ;
+
+        ll.delete(49) ;
+        ll.delete(50) ;
+        System.out.println("get(2) -> " + ll.get(2));
+        ll.traverse();
+    }
+}
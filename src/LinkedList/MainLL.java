@@ -15,6 +15,7 @@ public class MainLL {
 
         ll.delete(49) ;
         ll.delete(50) ;
+        ll.appendAll(new int[]{60, 61, 62}) ;
         ll.traverse();
     }
 }
@@ -0,0 +1,111 @@
+package LinkedList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+// checkpointing a list between batch stages: ObjectOutputStream of the boxed values,
+// ObjectOutputStream.writeInt per node, the text dump, and the binary block codec
+public class MainListCheckpoint {
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000 ;
+        Random random = new Random(42) ;
+        LL ascending = new LL() ;
+        LL shuffled = new LL() ;
+        int v = 0 ;
+        for (int i = 0; i < n; i++){
+            v += random.nextInt(100) ;
+            ascending.append(v);
+            shuffled.append(random.nextInt());
+        }
+        Path file = Files.createTempFile("list-checkpoint", ".bin") ;
+        try {
+            for (int round = 0; round < 2; round++){
+                System.out.println(round == 0 ? "-- warm-up" : "-- measured");
+                run("ascending", ascending, file);
+                run("random", shuffled, file);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void run(String label, LL list, Path file) throws Exception {
+        System.out.println(label + " (" + list.size + " values)");
+
+        long write = System.nanoTime() ;
+        ArrayList<Integer> boxed = new ArrayList<>(list.size) ;
+        list.forEach(boxed::add);
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeObject(boxed);
+        }
+        write = System.nanoTime() - write ;
+        long read = System.nanoTime() ;
+        LL copy = new LL() ;
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            @SuppressWarnings("unchecked")
+            ArrayList<Integer> values = (ArrayList<Integer>) in.readObject() ;
+            for (int x : values) copy.append(x);
+        }
+        report("writeObject(ArrayList)", write, System.nanoTime() - read, file, list, copy);
+
+        write = System.nanoTime() ;
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(list.size);
+            list.forEach(x -> {
+                try {
+                    out.writeInt(x);
+                } catch (IOException e){
+                    throw new UncheckedIOException(e) ;
+                }
+            });
+        }
+        write = System.nanoTime() - write ;
+        read = System.nanoTime() ;
+        copy = new LL() ;
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            for (int i = in.readInt(); i > 0; i--) copy.append(in.readInt());
+        }
+        report("ObjectOutputStream.writeInt", write, System.nanoTime() - read, file, list, copy);
+
+        write = System.nanoTime() ;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            list.writeTo(ch);
+        }
+        write = System.nanoTime() - write ;
+        read = System.nanoTime() ;
+        copy = new LL() ;
+        try (BufferedReader in = Files.newBufferedReader(file)) {
+            for (String line = in.readLine(); line != null; line = in.readLine()) copy.append(Integer.parseInt(line));
+        }
+        report("text writeTo/readLine", write, System.nanoTime() - read, file, list, copy);
+
+        write = System.nanoTime() ;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            list.writeBinaryTo(ch);
+        }
+        write = System.nanoTime() - write ;
+        read = System.nanoTime() ;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            copy = LL.readBinaryFrom(ch) ;
+        }
+        report("binary blocks", write, System.nanoTime() - read, file, list, copy);
+    }
+
+    private static void report(String label, long write, long read, Path file, LL expected, LL actual) throws IOException {
+        if (!Arrays.equals(expected.toArray(), actual.toArray())) throw new AssertionError(label + " round trip differs") ;
+        System.out.printf("  %-28s write %5d ms  read %5d ms  %6.2f bytes/value%n", label,
+                write / 1_000_000, read / 1_000_000, (double) Files.size(file) / expected.size);
+    }
+}
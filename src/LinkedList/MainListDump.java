@@ -0,0 +1,44 @@
+package LinkedList;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+// dumping a large list to a file: println per element (what traverse() used to do)
+// versus forEach into the batched writer behind writeTo()
+public class MainListDump {
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000 ;
+        LL ll = new LL() ;
+        ll.appendAll(IntStream.range(-n / 2, n / 2));
+        Path file = Files.createTempFile("list-dump", ".txt") ;
+
+        long start = System.nanoTime() ;
+        try (PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(file.toFile())), true)) {
+            ll.forEach(out::println);
+        }
+        System.out.printf("println per element:  %6d ms, %d bytes%n", (System.nanoTime() - start) / 1_000_000, Files.size(file));
+
+        start = System.nanoTime() ;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ll.writeTo(ch);
+        }
+        System.out.printf("writeTo(channel):     %6d ms, %d bytes%n", (System.nanoTime() - start) / 1_000_000, Files.size(file));
+
+        long[] sum = new long[1] ;
+        start = System.nanoTime() ;
+        ll.forEach(v -> sum[0] += v);
+        System.out.printf("forEach visitor sum:  %6d ms (%d)%n", (System.nanoTime() - start) / 1_000_000, sum[0]);
+        Files.delete(file);
+
+        CLL cll = new CLL() ;
+        for (int i = 1; i <= 3; i++) cll.append(i);
+        cll.traverse();
+    }
+}
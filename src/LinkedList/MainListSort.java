@@ -0,0 +1,79 @@
+package LinkedList;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// in-place sort/reverse versus copying out to an array, sorting and rebuilding the list.
+// default is 10M elements; pass a smaller count as the first argument on small heaps
+public class MainListSort {
+    public static void main(String[] args){
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000 ;
+        int[] random = new Random(42).ints(n).toArray() ;
+        int[] nearlySorted = new int[n] ;
+        for (int i = 0; i < n; i++) nearlySorted[i] = i ;
+        for (int i = 0; i < n / 100; i++) nearlySorted[i * 100] = -i ;
+
+        System.out.printf("%-6s %-14s %12s %12s%n", "list", "input", "in-place ms", "copy ms");
+        bench("LL", "random", random);
+        bench("LL", "nearly sorted", nearlySorted);
+        bench("DLL", "random", random);
+        bench("CLL", "random", random);
+
+        LL ll = new LL() ;
+        ll.appendAll(random);
+        long start = System.nanoTime() ;
+        ll.reverse();
+        ll.reverse(n / 4, n / 2);
+        System.out.printf("LL reverse() + reverse(n/4, n/2): %d ms%n", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void bench(String kind, String input, int[] data){
+        // in place
+        Object list = fill(kind, data) ;
+        long start = System.nanoTime() ;
+        sort(list);
+        long inPlace = (System.nanoTime() - start) / 1_000_000 ;
+        list = null ;
+
+        // copy out, sort the array, rebuild every node
+        Object copied = fill(kind, data) ;
+        start = System.nanoTime() ;
+        int[] values = toArray(copied) ;
+        Arrays.sort(values);
+        copied = fill(kind, values) ;
+        long copy = (System.nanoTime() - start) / 1_000_000 ;
+        System.out.printf("%-6s %-14s %12d %12d%n", kind, input, inPlace, copy);
+    }
+
+    private static Object fill(String kind, int[] data){
+        switch (kind){
+            case "LL": {
+                LL ll = new LL() ;
+                ll.appendAll(data);
+                return ll ;
+            }
+            case "DLL": {
+                DLL dll = new DLL() ;
+                for (int v : data) dll.append(v);
+                return dll ;
+            }
+            default: {
+                CLL cll = new CLL() ;
+                for (int v : data) cll.append(v);
+                return cll ;
+            }
+        }
+    }
+
+    private static void sort(Object list){
+        if (list instanceof LL) ((LL) list).sort();
+        else if (list instanceof DLL) ((DLL) list).sort();
+        else ((CLL) list).sort();
+    }
+
+    private static int[] toArray(Object list){
+        if (list instanceof LL) return ((LL) list).toArray() ;
+        if (list instanceof DLL) return ((DLL) list).toArray() ;
+        return ((CLL) list).toArray() ;
+    }
+}
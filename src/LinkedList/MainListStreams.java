@@ -0,0 +1,37 @@
+package LinkedList;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+// sequential vs parallel sum and filter over LL, DLL and CLL streams
+public class MainListStreams {
+    public static void main(String[] args){
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000 ;
+        LL ll = new LL() ;
+        DLL dll = new DLL() ;
+        CLL cll = new CLL() ;
+        ll.appendAll(IntStream.range(0, n));
+        for (int i = 0; i < n; i++){
+            dll.append(i);
+            cll.append(i);
+        }
+
+        PrimitiveIterator.OfInt it = ll.iterator() ;
+        System.out.println("first three: " + it.nextInt() + ", " + it.nextInt() + ", " + it.nextInt());
+        System.out.println("parallelism: " + Runtime.getRuntime().availableProcessors() + " cores");
+
+        bench("LL", ll.stream(), ll.parallelStream());
+        bench("DLL", dll.stream(), dll.parallelStream());
+        bench("CLL", cll.stream(), cll.parallelStream());
+    }
+
+    private static void bench(String name, IntStream sequential, IntStream parallel){
+        long start = System.nanoTime() ;
+        long seq = sequential.filter(v -> v % 3 == 0).asLongStream().sum() ;
+        long seqMs = (System.nanoTime() - start) / 1_000_000 ;
+        start = System.nanoTime() ;
+        long par = parallel.filter(v -> v % 3 == 0).asLongStream().sum() ;
+        long parMs = (System.nanoTime() - start) / 1_000_000 ;
+        System.out.printf("%-4s sequential %5d ms, parallel %5d ms (sums %s)%n", name, seqMs, parMs, seq == par ? "match" : "DIFFER");
+    }
+}
@@ -0,0 +1,25 @@
+package LinkedList;
+
+import java.nio.file.Path;
+
+public class MainOffHeapDLL {
+    public static void main(String[] args){
+        OffHeapDLL dll = new OffHeapDLL(2) ;
+        dll.insertFirst(5);
+        dll.insertFirst(51);
+        dll.append(10);
+        dll.append(11);
+        dll.delete(51);
+        dll.append(12);
+        dll.traverseRev();
+        dll.close();
+
+        Path file = Path.of(System.getProperty("java.io.tmpdir"), "offheap-dll.bin") ;
+        try (OffHeapDLL stored = OffHeapDLL.open(file, 16)) {
+            stored.append(stored.size());
+        }
+        try (OffHeapDLL reopened = OffHeapDLL.open(file, 16)) {
+            reopened.traverse();
+        }
+    }
+}
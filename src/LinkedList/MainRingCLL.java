@@ -0,0 +1,47 @@
+package LinkedList;
+
+public class MainRingCLL {
+    public static void main(String[] args) throws InterruptedException {
+        RingCLL ring = new RingCLL(4) ;
+        ring.append(1) ;
+        ring.append(12) ;
+        ring.append(13) ;
+        ring.append(14) ;
+        System.out.println("append when full: " + ring.append(50));
+        ring.delete(12);
+        ring.append(50) ;
+        ring.traverse();
+
+        for (RingQueue.Mode mode : RingQueue.Mode.values()){
+            handoff(mode, mode == RingQueue.Mode.SPSC ? 1 : 3);
+        }
+    }
+
+    // producers push 0..n-1 each, the consumer drains in batches and checks the total
+    private static void handoff(RingQueue.Mode mode, int producers) throws InterruptedException {
+        RingQueue queue = new RingQueue(1 << 12, mode) ;
+        int perProducer = 5_000_000 ;
+        Thread[] threads = new Thread[producers] ;
+        for (int p = 0; p < producers; p++){
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++){
+                    while (!queue.offer(i)) Thread.onSpinWait();
+                }
+            });
+        }
+        long[] sum = new long[1] ;
+        long start = System.nanoTime() ;
+        for (Thread t : threads) t.start();
+        long received = 0 ;
+        while (received < (long) producers * perProducer){
+            int n = queue.drain(v -> sum[0] += v, 256) ;
+            if (n == 0) Thread.onSpinWait();
+            received += n ;
+        }
+        for (Thread t : threads) t.join();
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000) ;
+        long expected = producers * ((long) perProducer * (perProducer - 1) / 2) ;
+        System.out.println(mode + " x" + producers + ": " + (received / elapsedMs) + " ops/ms, "
+                + (sum[0] == expected ? "ok" : "FAILED"));
+    }
+}
@@ -0,0 +1,122 @@
+package LinkedList;
+
+import java.util.Random;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// connection-timeout workload: every connection holds a 30 s idle timer, and most
+// timers are cancelled and re-armed by traffic before they fire
+public class MainTimingWheel {
+    static long now ;
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000 ;
+        int rearms = connections * 3 ;
+        Random random = new Random(7) ;
+        long[] delays = new long[connections + rearms] ;
+        int[] victims = new int[rearms] ;
+        for (int i = 0; i < delays.length; i++) delays[i] = 30_000 + random.nextInt(5_000) ;
+        for (int i = 0; i < rearms; i++) victims[i] = random.nextInt(connections) ;
+
+        for (int round = 0; round < 2; round++){
+            System.out.println(round == 0 ? "-- warm-up" : "-- measured");
+            wheel(connections, delays, victims);
+            scheduledExecutor(connections, delays, victims);
+            delayQueue(connections, delays);
+        }
+        expiry(connections, delays);
+    }
+
+    private static void wheel(int connections, long[] delays, int[] victims){
+        TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 512, 3) ;
+        TimingWheel.Timeout[] timers = new TimingWheel.Timeout[connections] ;
+        Runnable close = () -> { } ;
+        System.gc();
+        long start = System.nanoTime() ;
+        for (int i = 0; i < connections; i++) timers[i] = wheel.schedule(close, delays[i], TimeUnit.MILLISECONDS) ;
+        for (int i = 0; i < victims.length; i++){
+            int c = victims[i] ;
+            timers[c].cancel();
+            timers[c] = wheel.schedule(close, delays[connections + i], TimeUnit.MILLISECONDS) ;
+        }
+        report("TimingWheel", connections + 2L * victims.length, System.nanoTime() - start);
+    }
+
+    private static void scheduledExecutor(int connections, long[] delays, int[] victims){
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1) ;
+        executor.setRemoveOnCancelPolicy(true);
+        @SuppressWarnings("unchecked")
+        ScheduledFuture<?>[] timers = new ScheduledFuture<?>[connections] ;
+        Runnable close = () -> { } ;
+        System.gc();
+        long start = System.nanoTime() ;
+        for (int i = 0; i < connections; i++) timers[i] = executor.schedule(close, delays[i], TimeUnit.MILLISECONDS) ;
+        for (int i = 0; i < victims.length; i++){
+            int c = victims[i] ;
+            timers[c].cancel(false);
+            timers[c] = executor.schedule(close, delays[connections + i], TimeUnit.MILLISECONDS) ;
+        }
+        report("ScheduledThreadPoolExecutor", connections + 2L * victims.length, System.nanoTime() - start);
+        executor.shutdownNow();
+    }
+
+    // DelayQueue.remove is a linear scan, so only the inserts are timed here
+    private static void delayQueue(int connections, long[] delays){
+        DelayQueue<Timer> queue = new DelayQueue<>() ;
+        System.gc();
+        long start = System.nanoTime() ;
+        long base = System.nanoTime() ;
+        for (int i = 0; i < delays.length; i++) queue.add(new Timer(base + TimeUnit.MILLISECONDS.toNanos(delays[i])));
+        report("DelayQueue (inserts only)", delays.length, System.nanoTime() - start);
+    }
+
+    // simulated clock: run the wheel through every deadline and dispatch to a pool
+    private static void expiry(int connections, long[] delays) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(2) ;
+        TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 512, 3, pool, () -> now) ;
+        LongAdder closed = new LongAdder() ;
+        for (int i = 0; i < connections; i++) wheel.schedule(closed::increment, delays[i], TimeUnit.MILLISECONDS);
+        int worstDepth = wheel.maxBucketDepth(0) ;
+        for (int l = 1; l < 3; l++) worstDepth = Math.max(worstDepth, wheel.maxBucketDepth(l)) ;
+        long start = System.nanoTime() ;
+        int busiest = 0 ;
+        for (long ms = 1; ms <= 36_000; ms++){
+            now = TimeUnit.MILLISECONDS.toNanos(ms) ;
+            wheel.advance();
+            busiest = Math.max(busiest, wheel.lastExpiredCount()) ;
+        }
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+        System.out.printf("expiry: %d timers over 36000 ticks in %d ms, %d batches, %d cascaded, busiest tick %d, deepest bucket at start %d, closed %d%n",
+                connections, (System.nanoTime() - start) / 1_000_000, wheel.batchCount(), wheel.cascadedCount(),
+                busiest, worstDepth, closed.sum());
+    }
+
+    private static void report(String label, long ops, long nanos){
+        System.out.printf("  %-30s %6d ms  %6.1f M ops/s%n", label, nanos / 1_000_000, ops * 1e3 / nanos);
+    }
+
+    private static final class Timer implements Delayed {
+        final long deadline ;
+
+        Timer(long deadline){
+            this.deadline = deadline ;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit){
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS) ;
+        }
+
+        @Override
+        public int compareTo(Delayed o){
+            return Long.compare(deadline, ((Timer) o).deadline) ;
+        }
+    }
+}
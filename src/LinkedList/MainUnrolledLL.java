@@ -0,0 +1,18 @@
+package LinkedList;
+
+public class MainUnrolledLL {
+    public static void main(String[] args){
+        UnrolledLL list = new UnrolledLL(4) ;
+        list.insertFirst(5);
+        list.insertFirst(3);
+        list.append(10);
+        list.append(11);
+        list.append(12);
+        list.append(0, 47) ;
+        list.append(2, 48) ;
+        list.delete(10) ;
+        list.delete(3) ;
+        list.traverse();
+        list.traverseRev();
+    }
+}
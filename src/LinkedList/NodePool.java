@@ -0,0 +1,48 @@
+package LinkedList;
+
+import java.util.Arrays;
+
+// deleted nodes kept around for reuse by LL, DLL and CLL; disabled until a capacity is set.
+// the nodes sit on an array stack rather than being chained through next: a node enters
+// with next cleared, so a stale iterator still holding it runs into null, never into the
+// other pooled nodes. the array grows on demand up to the capacity
+final class NodePool<N extends IntNode<N>> {
+    private static final IntNode<?>[] EMPTY = new IntNode<?>[0] ;
+
+    private IntNode<?>[] nodes = EMPTY ;
+    private int size ;
+    private int capacity ;
+
+    void setCapacity(int capacity){
+        if (capacity < 0) throw new IllegalArgumentException("capacity must not be negative") ;
+        this.capacity = capacity ;
+        trim(capacity);
+    }
+
+    // drops pooled nodes until at most `keep` remain, handing the memory back to the GC
+    void trim(int keep){
+        while (size > keep){
+            nodes[--size] = null ;
+        }
+        if (size == 0) nodes = EMPTY ;
+    }
+
+    // a pooled node with next already null, or null when the pool is empty
+    @SuppressWarnings("unchecked")
+    N take(){
+        if (size == 0) return null ;
+        N node = (N) nodes[--size] ;
+        nodes[size] = null ;
+        return node ;
+    }
+
+    // the caller clears any other links first; the node is dropped when the pool is full
+    void offer(N node){
+        if (size >= capacity) return ;
+        node.next = null ;
+        if (size == nodes.length){
+            nodes = Arrays.copyOf(nodes, (int) Math.min(capacity, Math.max(16, 2L * size))) ;
+        }
+        nodes[size++] = node ;
+    }
+}
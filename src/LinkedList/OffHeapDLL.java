@@ -0,0 +1,239 @@
+package LinkedList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// same shape as DLL, but the nodes live outside the java heap: every node is a
+// fixed 12 byte slot (value, next, prev) and links are slot indices, with -1 as null.
+// when backed by a file the list survives a restart and reopens without rebuilding.
+public class OffHeapDLL implements AutoCloseable {
+    private static final int MAGIC = 0x444C4C31 ; // "DLL1"
+    private static final int NIL = -1 ;
+
+    // header layout
+    private static final int H_MAGIC = 0 ;
+    private static final int H_HEAD = 4 ;
+    private static final int H_TAIL = 8 ;
+    private static final int H_SIZE = 12 ;
+    private static final int H_FREE = 16 ;
+    private static final int H_USED = 20 ;
+    private static final int HEADER = 32 ;
+
+    // slot layout
+    private static final int S_VALUE = 0 ;
+    private static final int S_NEXT = 4 ;
+    private static final int S_PREV = 8 ;
+    private static final int SLOT = 12 ;
+
+    private ByteBuffer buf ;
+    private FileChannel channel ;
+    private int capacity ;
+
+    public OffHeapDLL(){
+        this(1024) ;
+    }
+
+    public OffHeapDLL(int capacity){
+        this.capacity = Math.max(capacity, 1) ;
+        this.buf = ByteBuffer.allocateDirect(bytesFor(this.capacity)).order(ByteOrder.LITTLE_ENDIAN) ;
+        init();
+    }
+
+    private OffHeapDLL(FileChannel channel, int capacity) throws IOException {
+        this.channel = channel ;
+        // only an empty file is new; anything else must already carry our header, which is
+        // checked with a plain read so a foreign file is neither grown nor written
+        boolean fresh = channel.size() == 0 ;
+        if (!fresh){
+            if (!hasHeader(channel)){
+                channel.close();
+                throw new IOException("not an OffHeapDLL file") ;
+            }
+            capacity = Math.max(capacity, (int) ((channel.size() - HEADER) / SLOT)) ;
+        }
+        this.capacity = Math.max(capacity, 1) ;
+        this.buf = map(this.capacity) ;
+        if (fresh) init();
+    }
+
+    private static boolean hasHeader(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER) return false ;
+        ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN) ;
+        while (header.hasRemaining()){
+            if (channel.read(header, header.position()) < 0) return false ;
+        }
+        return header.getInt(H_MAGIC) == MAGIC ;
+    }
+
+    // opens (or creates) a list backed by a memory-mapped file
+    public static OffHeapDLL open(Path file, int capacity){
+        try {
+            FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE) ;
+            return new OffHeapDLL(ch, capacity) ;
+        } catch (IOException e){
+            throw new UncheckedIOException(e) ;
+        }
+    }
+
+    private void init(){
+        buf.putInt(H_MAGIC, MAGIC) ;
+        buf.putInt(H_HEAD, NIL) ;
+        buf.putInt(H_TAIL, NIL) ;
+        buf.putInt(H_SIZE, 0) ;
+        buf.putInt(H_FREE, NIL) ;
+        buf.putInt(H_USED, 0) ;
+    }
+
+    public int size(){
+        return buf.getInt(H_SIZE) ;
+    }
+
+    public void insertFirst(int val){
+        int node = allocate(val) ;
+        int head = buf.getInt(H_HEAD) ;
+        setNext(node, head);
+        setPrev(node, NIL);
+        if (head != NIL){
+            setPrev(head, node);
+        } else {
+            buf.putInt(H_TAIL, node) ;
+        }
+        buf.putInt(H_HEAD, node) ;
+        buf.putInt(H_SIZE, size() + 1) ;
+    }
+
+    public void append(int value){
+        int node = allocate(value) ;
+        int tail = buf.getInt(H_TAIL) ;
+        setNext(node, NIL);
+        setPrev(node, tail);
+        if (tail != NIL){
+            setNext(tail, node);
+        } else {
+            buf.putInt(H_HEAD, node) ;
+        }
+        buf.putInt(H_TAIL, node) ;
+        buf.putInt(H_SIZE, size() + 1) ;
+    }
+
+    public void delete(int value){
+        int node = buf.getInt(H_HEAD) ;
+        while (node != NIL && value(node) != value){
+            node = next(node) ;
+        }
+        if (node == NIL) return ;
+        int prev = prev(node) ;
+        int next = next(node) ;
+        if (prev != NIL) setNext(prev, next); else buf.putInt(H_HEAD, next) ;
+        if (next != NIL) setPrev(next, prev); else buf.putInt(H_TAIL, prev) ;
+        release(node);
+        buf.putInt(H_SIZE, size() - 1) ;
+    }
+
+    public void traverse(){
+        int node = buf.getInt(H_HEAD) ;
+        while (node != NIL){
+            System.out.println(value(node));
+            node = next(node) ;
+        }
+    }
+
+    public void traverseRev(){
+        int node = buf.getInt(H_TAIL) ;
+        while (node != NIL){
+            System.out.println(value(node));
+            node = prev(node) ;
+        }
+    }
+
+    // flushes a file-backed list and drops the buffer; the list is unusable afterwards
+    @Override
+    public void close(){
+        if (buf == null) return ;
+        try {
+            if (channel != null){
+                ((MappedByteBuffer) buf).force();
+                channel.close();
+            }
+        } catch (IOException e){
+            throw new UncheckedIOException(e) ;
+        } finally {
+            buf = null ;
+            channel = null ;
+        }
+    }
+
+    // reuses a slot from the free list before bumping the high-water mark
+    private int allocate(int value){
+        int node = buf.getInt(H_FREE) ;
+        if (node != NIL){
+            buf.putInt(H_FREE, next(node)) ;
+        } else {
+            node = buf.getInt(H_USED) ;
+            if (node == capacity) grow();
+            buf.putInt(H_USED, node + 1) ;
+        }
+        buf.putInt(offset(node) + S_VALUE, value) ;
+        return node ;
+    }
+
+    private void release(int node){
+        setNext(node, buf.getInt(H_FREE));
+        buf.putInt(H_FREE, node) ;
+    }
+
+    private void grow(){
+        int newCapacity = capacity + (capacity >> 1) + 1 ;
+        if (channel != null){
+            try {
+                buf = map(newCapacity) ;
+            } catch (IOException e){
+                throw new UncheckedIOException(e) ;
+            }
+        } else {
+            ByteBuffer bigger = ByteBuffer.allocateDirect(bytesFor(newCapacity)).order(ByteOrder.LITTLE_ENDIAN) ;
+            bigger.put(buf.clear()) ;
+            buf = bigger ;
+        }
+        capacity = newCapacity ;
+    }
+
+    private ByteBuffer map(int capacity) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytesFor(capacity)).order(ByteOrder.LITTLE_ENDIAN) ;
+    }
+
+    private static int bytesFor(int capacity){
+        return Math.addExact(HEADER, Math.multiplyExact(capacity, SLOT)) ;
+    }
+
+    private static int offset(int node){
+        return HEADER + node * SLOT ;
+    }
+
+    private int value(int node){
+        return buf.getInt(offset(node) + S_VALUE) ;
+    }
+
+    private int next(int node){
+        return buf.getInt(offset(node) + S_NEXT) ;
+    }
+
+    private int prev(int node){
+        return buf.getInt(offset(node) + S_PREV) ;
+    }
+
+    private void setNext(int node, int next){
+        buf.putInt(offset(node) + S_NEXT, next) ;
+    }
+
+    private void setPrev(int node, int prev){
+        buf.putInt(offset(node) + S_PREV, prev) ;
+    }
+}
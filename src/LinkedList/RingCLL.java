@@ -0,0 +1,63 @@
+package LinkedList;
+
+// CLL semantics (append at tail, wrap around to head, delete by value, circular
+// traverse) on a fixed-capacity int[] instead of one node per element
+public class RingCLL {
+    private final int[] values ;
+    int head ;
+    int size = 0 ;
+
+    public RingCLL(int capacity){
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive") ;
+        this.values = new int[capacity] ;
+    }
+
+    public int capacity(){
+        return values.length ;
+    }
+
+    // returns false when the ring is full
+    public boolean append(int value){
+        if (size == values.length) return false ;
+        values[slot(size)] = value ;
+        this.size++ ;
+        return true ;
+    }
+
+    public void delete(int value){
+        for (int i = 0; i < size; i++){
+            if (values[slot(i)] == value){
+                // close the hole from whichever side has fewer elements to move
+                if (i < size / 2){
+                    for (int j = i; j > 0; j--){
+                        values[slot(j)] = values[slot(j - 1)] ;
+                    }
+                    head = slot(1) ;
+                } else {
+                    for (int j = i; j < size - 1; j++){
+                        values[slot(j)] = values[slot(j + 1)] ;
+                    }
+                }
+                size-- ;
+                if (size == 0) head = 0 ;
+                return ;
+            }
+        }
+    }
+
+    public void traverse() {
+        if (size == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            System.out.print(values[slot(i)] + " -> ");
+        }
+        System.out.println("End");
+    }
+
+    private int slot(int offset){
+        int i = head + offset ;
+        return i >= values.length ? i - values.length : i ;
+    }
+}
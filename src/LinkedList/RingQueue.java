@@ -0,0 +1,161 @@
+package LinkedList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+// lock-free handoff on a power-of-two int ring (Disruptor style): producers and the
+// single consumer each own a monotonically increasing sequence, padded onto its own
+// cache line so the two sides never false-share. each side's cached copy of the other
+// side's sequence sits on that same padded line, next to the sequence it writes anyway.
+// SPSC: the producer publishes by advancing its sequence.
+// MPSC: producers claim slots with a CAS on the tail sequence and publish each slot
+// by stamping it with its sequence number, so the consumer never reads a slot early.
+public class RingQueue {
+    public enum Mode { SPSC, MPSC }
+
+    private final Mode mode ;
+    private final int[] buffer ;
+    private final int mask ;
+    private final AtomicLongArray published ; // MPSC only
+    private final Sequence head = new Sequence() ; // next slot to consume; cached = tail as seen by the consumer
+    private final Sequence tail = new Sequence() ; // next slot to fill; cached = head as seen by the producer (SPSC)
+
+    public RingQueue(int capacity, Mode mode){
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1){
+            throw new IllegalArgumentException("capacity must be a power of two") ;
+        }
+        this.mode = mode ;
+        this.buffer = new int[capacity] ;
+        this.mask = capacity - 1 ;
+        if (mode == Mode.MPSC){
+            published = new AtomicLongArray(capacity) ;
+            for (int i = 0; i < capacity; i++) published.set(i, -1);
+        } else {
+            published = null ;
+        }
+    }
+
+    public int capacity(){
+        return buffer.length ;
+    }
+
+    public int size(){
+        return (int) (tail.getAcquire() - head.getAcquire()) ;
+    }
+
+    // returns false when the ring is full
+    public boolean offer(int value){
+        return mode == Mode.SPSC ? offerSingle(value) : offerMulti(value) ;
+    }
+
+    private boolean offerSingle(int value){
+        long t = tail.getPlain() ;
+        if (t - tail.cached >= buffer.length){
+            tail.cached = head.getAcquire() ;
+            if (t - tail.cached >= buffer.length) return false ;
+        }
+        buffer[(int) t & mask] = value ;
+        tail.setRelease(t + 1);
+        return true ;
+    }
+
+    private boolean offerMulti(int value){
+        long t ;
+        do {
+            t = tail.getVolatile() ;
+            if (t - head.getAcquire() >= buffer.length) return false ;
+        } while (!tail.compareAndSet(t, t + 1)) ;
+        int index = (int) t & mask ;
+        buffer[index] = value ;
+        published.lazySet(index, t);
+        return true ;
+    }
+
+    // consumer only: hands over up to `limit` elements and frees their slots in one step
+    public int drain(IntConsumer sink, int limit){
+        long h = head.getPlain() ;
+        int n = 0 ;
+        if (mode == Mode.SPSC){
+            if (h >= head.cached) head.cached = tail.getAcquire() ;
+            long available = Math.min(head.cached - h, limit) ;
+            for (; n < available; n++){
+                sink.accept(buffer[(int) (h + n) & mask]);
+            }
+        } else {
+            while (n < limit){
+                int index = (int) (h + n) & mask ;
+                if (published.get(index) != h + n) break ;
+                sink.accept(buffer[index]);
+                n++ ;
+            }
+        }
+        if (n > 0) head.setRelease(h + n);
+        return n ;
+    }
+
+    public int drain(IntConsumer sink){
+        return drain(sink, buffer.length) ;
+    }
+
+    // consumer only: returns ifEmpty when nothing is published yet
+    public int poll(int ifEmpty){
+        long h = head.getPlain() ;
+        int index = (int) h & mask ;
+        if (mode == Mode.SPSC){
+            if (h >= head.cached){
+                head.cached = tail.getAcquire() ;
+                if (h >= head.cached) return ifEmpty ;
+            }
+        } else if (published.get(index) != h){
+            return ifEmpty ;
+        }
+        int value = buffer[index] ;
+        head.setRelease(h + 1);
+        return value ;
+    }
+
+    // 7 longs either side keep `value` and its side's cache alone on their 64 byte line
+    abstract static class LeftPad {
+        long p01, p02, p03, p04, p05, p06, p07 ;
+    }
+
+    abstract static class Value extends LeftPad {
+        volatile long value ;
+        long cached ;   // the opposite sequence, refreshed only when it looks exhausted
+    }
+
+    static final class Sequence extends Value {
+        long p11, p12, p13, p14, p15, p16, p17 ;
+
+        private static final VarHandle VALUE ;
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Value.class, "value", long.class) ;
+            } catch (ReflectiveOperationException e){
+                throw new ExceptionInInitializerError(e) ;
+            }
+        }
+
+        long getPlain(){
+            return (long) VALUE.get(this) ;
+        }
+
+        long getAcquire(){
+            return (long) VALUE.getAcquire(this) ;
+        }
+
+        long getVolatile(){
+            return value ;
+        }
+
+        void setRelease(long v){
+            VALUE.setRelease(this, v);
+        }
+
+        boolean compareAndSet(long expected, long v){
+            return VALUE.compareAndSet(this, expected, v) ;
+        }
+    }
+}
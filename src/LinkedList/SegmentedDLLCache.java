@@ -0,0 +1,126 @@
+package LinkedList;
+
+import java.util.function.BiConsumer;
+import java.util.function.ToLongBiFunction;
+
+// thread-safe DLLCache: keys are spread over independent segments, each with its own
+// lock, hash index and eviction order, so threads touching different segments never
+// contend. the weight bound is split evenly, so eviction is per segment.
+public class SegmentedDLLCache<K, V> {
+    private final DLLCache<K, V>[] segments ;
+    private final int mask ;
+    private final long maxEntryWeight ;
+
+    // every segment gets maxWeight / segments (the segment count is concurrency rounded up
+    // to a power of two), and that is also the heaviest single entry the cache will hold:
+    // put treats anything heavier like DLLCache treats an entry over its maxWeight
+    @SuppressWarnings("unchecked")
+    public SegmentedDLLCache(DLLCache.Policy policy, long maxWeight, int concurrency){
+        int n = 1 ;
+        while (n < concurrency) n <<= 1 ;
+        if (maxWeight < n) throw new IllegalArgumentException("maxWeight must be at least the segment count") ;
+        this.segments = (DLLCache<K, V>[]) new DLLCache<?, ?>[n] ;
+        this.mask = n - 1 ;
+        this.maxEntryWeight = maxWeight / n ;
+        for (int i = 0; i < n; i++){
+            segments[i] = new DLLCache<>(policy, maxWeight / n + (i < maxWeight % n ? 1 : 0)) ;
+        }
+    }
+
+    // the largest weight put is guaranteed to store, whichever segment the key lands in
+    public long maxEntryWeight(){
+        return maxEntryWeight ;
+    }
+
+    public SegmentedDLLCache<K, V> weigher(ToLongBiFunction<? super K, ? super V> weigher){
+        for (DLLCache<K, V> segment : segments){
+            synchronized (segment){
+                segment.weigher(weigher) ;
+            }
+        }
+        return this ;
+    }
+
+    // the listener runs while the segment lock is held, keep it short
+    public SegmentedDLLCache<K, V> onEviction(BiConsumer<? super K, ? super V> listener){
+        for (DLLCache<K, V> segment : segments){
+            synchronized (segment){
+                segment.onEviction(listener) ;
+            }
+        }
+        return this ;
+    }
+
+    public V get(K key){
+        DLLCache<K, V> segment = segmentFor(key) ;
+        synchronized (segment){
+            return segment.get(key) ;
+        }
+    }
+
+    // an entry heavier than maxEntryWeight() is not stored: it and any older value under
+    // the key go to the eviction listener
+    public void put(K key, V value){
+        DLLCache<K, V> segment = segmentFor(key) ;
+        synchronized (segment){
+            segment.put(key, value);
+        }
+    }
+
+    public V remove(K key){
+        DLLCache<K, V> segment = segmentFor(key) ;
+        synchronized (segment){
+            return segment.remove(key) ;
+        }
+    }
+
+    public int size(){
+        int size = 0 ;
+        for (DLLCache<K, V> segment : segments){
+            synchronized (segment){
+                size += segment.size() ;
+            }
+        }
+        return size ;
+    }
+
+    public long hitCount(){
+        long total = 0 ;
+        for (DLLCache<K, V> segment : segments){
+            synchronized (segment){
+                total += segment.hitCount() ;
+            }
+        }
+        return total ;
+    }
+
+    public long missCount(){
+        long total = 0 ;
+        for (DLLCache<K, V> segment : segments){
+            synchronized (segment){
+                total += segment.missCount() ;
+            }
+        }
+        return total ;
+    }
+
+    public long evictionCount(){
+        long total = 0 ;
+        for (DLLCache<K, V> segment : segments){
+            synchronized (segment){
+                total += segment.evictionCount() ;
+            }
+        }
+        return total ;
+    }
+
+    // unlike a single DLLCache (HashMap accepts null), keys must be non-null here because
+    // their hash picks the segment
+    private DLLCache<K, V> segmentFor(K key){
+        if (key == null) throw new NullPointerException("null key") ;
+        int h = key.hashCode() ;
+        h ^= h >>> 16 ;
+        h *= 0x9E3779B9 ;
+        return segments[(h >>> 16) & mask] ;
+    }
+}
@@ -0,0 +1,503 @@
+package LinkedList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// hashed timing wheel for large numbers of timeouts (connection idle/read timers)
+// where a heap (DelayQueue, ScheduledThreadPoolExecutor) pays O(log n) per insert
+// and per cancel.
+//
+// each level is a ring of slot nodes laid out like CLL: head, tail, tail.next == head,
+// and a cursor that moves one node per tick of that level. a slot holds its timeouts
+// in a doubly linked bucket, so schedule is "hash the deadline to a slot, link at the
+// tail" and cancel is "unlink", both O(1). the slots are also kept in an array, so
+// hashing a deadline doesn't walk the ring.
+//
+// level L slots are wheelSize^L ticks wide. a deadline too far out for level 0 goes
+// into the first level whose range covers it; when the cursor of level L reaches a
+// slot, that slot's timeouts are re-hashed into the lower levels (cascaded). anything
+// beyond the top level parks in the top level's farthest slot and is re-hashed each
+// time that slot comes round.
+//
+// the wheel is advanced by one thread, either the one started by start() or a caller
+// driving advance()/advanceTo() from its own loop. schedule and cancel may be called
+// from any thread; all bucket changes happen under one lock, which is held for O(1)
+// per call and for one tick's worth of work while advancing; a catch-up over many ticks
+// lets go of it between ticks. expired tasks run outside the lock, handed to the
+// executor in batches.
+public class TimingWheel {
+    private static final int DEFAULT_BATCH = 64 ;
+
+    private final long tickNanos ;
+    private final int mask ;
+    private final Level[] levels ;
+    private final Executor executor ;
+    private final LongSupplier clock ;
+    private final long startNanos ;
+    private final ReentrantLock lock = new ReentrantLock() ;
+
+    private long tick ;          // last tick fully processed
+    private long pending ;
+    private int batchSize = DEFAULT_BATCH ;
+
+    // metrics. the first group is written under the lock; the dispatch counters and
+    // the lag only by the advancing thread; failed by the executor threads
+    private long expired ;
+    private long cancelled ;
+    private long cascaded ;
+    private int lastExpired ;
+    private volatile long batches ;
+    private volatile long rejected ;
+    private volatile long lastTickLag ;
+    private volatile long maxTickLag ;
+    private final AtomicLong failed = new AtomicLong() ;
+
+    private volatile Thread worker ;
+    private volatile boolean running ;
+
+    public final class Timeout {
+        private static final int PENDING = 0, EXPIRED = 1, CANCELLED = 2 ;
+
+        private final Runnable task ;
+        private final long deadlineTick ;
+        private Slot slot ;
+        private Timeout prev, next ;
+        private int state ;
+
+        private Timeout(Runnable task, long deadlineTick){
+            this.task = task ;
+            this.deadlineTick = deadlineTick ;
+        }
+
+        // false if the timeout already fired or was cancelled before
+        public boolean cancel(){
+            lock.lock();
+            try {
+                if (state != PENDING) return false ;
+                state = CANCELLED ;
+                slot.unlink(this);
+                pending-- ;
+                cancelled++ ;
+                return true ;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public boolean isCancelled(){
+            lock.lock();
+            try {
+                return state == CANCELLED ;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public boolean isExpired(){
+            lock.lock();
+            try {
+                return state == EXPIRED ;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // nanos from now until the tick this timeout fires on; negative once it is due
+        public long remaining(TimeUnit unit){
+            return unit.convert(deadlineTick * tickNanos - (clock.getAsLong() - startNanos), TimeUnit.NANOSECONDS) ;
+        }
+    }
+
+    // one bucket: a doubly linked list of timeouts, plus the ring link to the next slot
+    private static final class Slot {
+        Slot next ;
+        Timeout head, tail ;
+        int depth ;
+
+        void link(Timeout t){
+            t.slot = this ;
+            t.prev = tail ;
+            t.next = null ;
+            if (tail == null){
+                head = t ;
+            } else {
+                tail.next = t ;
+            }
+            tail = t ;
+            depth++ ;
+        }
+
+        void unlink(Timeout t){
+            if (t.prev == null) head = t.next ; else t.prev.next = t.next ;
+            if (t.next == null) tail = t.prev ; else t.next.prev = t.prev ;
+            t.prev = t.next = null ;
+            t.slot = null ;
+            depth-- ;
+        }
+
+        // empties the bucket and returns its old chain, still linked through next
+        Timeout detach(){
+            Timeout first = head ;
+            head = tail = null ;
+            depth = 0 ;
+            return first ;
+        }
+    }
+
+    // a ring of slots, CLL style, with the array alongside for hashing
+    private static final class Level {
+        final Slot[] slots ;
+        final int shift ;
+        Slot head, tail, cursor ;
+
+        Level(int size, int shift){
+            this.slots = new Slot[size] ;
+            this.shift = shift ;
+            for (int i = 0; i < size; i++){
+                Slot s = new Slot() ;
+                slots[i] = s ;
+                if (head == null){
+                    head = s ;
+                } else {
+                    tail.next = s ;
+                }
+                tail = s ;
+            }
+            tail.next = head ;
+            cursor = head ;
+        }
+    }
+
+    public TimingWheel(long tickDuration, TimeUnit unit, int wheelSize, int levels){
+        this(tickDuration, unit, wheelSize, levels, Runnable::run, System::nanoTime) ;
+    }
+
+    public TimingWheel(long tickDuration, TimeUnit unit, int wheelSize, int levels, Executor executor){
+        this(tickDuration, unit, wheelSize, levels, executor, System::nanoTime) ;
+    }
+
+    // wheelSize must be a power of two; levels is 1 for a flat wheel, more for overflow
+    // wheels. clock supplies nanoTime-style readings (injectable for simulations)
+    public TimingWheel(long tickDuration, TimeUnit unit, int wheelSize, int levels, Executor executor, LongSupplier clock){
+        if (tickDuration <= 0) throw new IllegalArgumentException("tick duration must be positive") ;
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) throw new IllegalArgumentException("wheel size must be a power of two >= 2") ;
+        int bits = Integer.numberOfTrailingZeros(wheelSize) ;
+        if (levels < 1 || (long) bits * levels > 62) throw new IllegalArgumentException("illegal number of levels: " + levels) ;
+        this.tickNanos = unit.toNanos(tickDuration) ;
+        if (tickNanos <= 0) throw new IllegalArgumentException("tick duration below 1ns") ;
+        this.mask = wheelSize - 1 ;
+        this.levels = new Level[levels] ;
+        for (int l = 0; l < levels; l++){
+            this.levels[l] = new Level(wheelSize, bits * l) ;
+        }
+        this.executor = executor ;
+        this.clock = clock ;
+        this.startNanos = clock.getAsLong() ;
+    }
+
+    // ---- scheduling ----
+
+    // runs task once the delay has passed, rounded up to the next tick
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit){
+        if (task == null) throw new NullPointerException() ;
+        long now = clock.getAsLong() - startNanos ;
+        long nanos = Math.max(0, unit.toNanos(delay)) ;
+        // saturate like ScheduledThreadPoolExecutor.triggerTime: a "never" delay becomes the
+        // farthest tick instead of wrapping round to the next one; it just keeps parking in
+        // the top level. the cap leaves room for the round-up and for deadlineTick * tickNanos
+        long max = Long.MAX_VALUE - tickNanos ;
+        long elapsed = now >= max - nanos ? max : now + nanos ;
+        long deadlineTick = (elapsed + tickNanos - 1) / tickNanos ;
+        Timeout t = new Timeout(task, deadlineTick) ;
+        lock.lock();
+        try {
+            place(t);
+            pending++ ;
+        } finally {
+            lock.unlock();
+        }
+        return t ;
+    }
+
+    // picks the lowest level whose window reaches the deadline and returns its index; a
+    // deadline that already passed fires on the next tick
+    private int place(Timeout t){
+        long deadline = Math.max(t.deadlineTick, tick + 1) ;
+        for (int l = 0; l < levels.length; l++){
+            Level level = levels[l] ;
+            long ahead = (deadline >>> level.shift) - (tick >>> level.shift) ;
+            if (ahead <= mask + 1){
+                level.slots[(int) (deadline >>> level.shift) & mask].link(t);
+                return l ;
+            }
+        }
+        // overflow: the farthest slot of the top level, re-hashed when it comes round
+        Level top = levels[levels.length - 1] ;
+        top.slots[(int) ((tick >>> top.shift) + mask + 1) & mask].link(t);
+        return levels.length - 1 ;
+    }
+
+    // ---- advancing ----
+
+    public void advance(){
+        advanceTo(clock.getAsLong());
+    }
+
+    // processes every tick that has ended by nowNanos and dispatches what expired
+    public void advanceTo(long nowNanos){
+        long target = (nowNanos - startNanos) / tickNanos ;
+        List<Runnable> due = new ArrayList<>() ;
+        lock.lock();
+        try {
+            if (target <= tick) return ;
+            if (pending == 0){
+                // nothing to fire or cascade; jump straight there
+                tick = target ;
+                for (Level level : levels) level.cursor = level.slots[(int) (tick >>> level.shift) & mask] ;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // one tick per lock hold, so schedule and cancel get in between the ticks of a
+        // long catch-up instead of waiting for all of it
+        boolean more = true ;
+        while (more){
+            lock.lock();
+            try {
+                if (tick < target){
+                    int before = due.size() ;
+                    runTick(tick + 1, due);
+                    expired += due.size() - before ;
+                }
+                more = tick < target ;
+                if (!more) lastExpired = due.size() ;
+            } finally {
+                lock.unlock();
+            }
+        }
+        long lag = nowNanos - (startNanos + target * tickNanos) ;
+        lastTickLag = lag ;
+        if (lag > maxTickLag) maxTickLag = lag ;
+        dispatch(due);
+    }
+
+    private void runTick(long t, List<Runnable> due){
+        // top level first, so cascaded timeouts can land in a lower slot that is
+        // due on this very tick and get handled further down
+        for (int l = levels.length - 1; l >= 1; l--){
+            Level level = levels[l] ;
+            if ((t & ((1L << level.shift) - 1)) != 0) continue ;
+            level.cursor = level.cursor.next ;
+            Timeout chain = level.cursor.detach() ;
+            while (chain != null){
+                Timeout next = chain.next ;
+                // overflow that only parks in the top level again is not a cascade
+                if (place(chain) < l) cascaded++ ;
+                chain = next ;
+            }
+        }
+        Level wheel = levels[0] ;
+        wheel.cursor = wheel.cursor.next ;
+        Timeout chain = wheel.cursor.detach() ;
+        while (chain != null){
+            Timeout next = chain.next ;
+            if (chain.deadlineTick > t){
+                // only overflow on a single-level wheel parks here early; go round again
+                place(chain);
+                chain = next ;
+                continue ;
+            }
+            chain.prev = chain.next = null ;
+            chain.slot = null ;
+            chain.state = Timeout.EXPIRED ;
+            due.add(chain.task) ;
+            pending-- ;
+            chain = next ;
+        }
+        tick = t ;
+    }
+
+    // one executor task per batch instead of one per timeout; a task that throws does
+    // not stop the rest of its batch
+    private void dispatch(List<Runnable> due){
+        for (int from = 0; from < due.size(); from += batchSize){
+            List<Runnable> batch = due.subList(from, Math.min(due.size(), from + batchSize)) ;
+            try {
+                executor.execute(() -> {
+                    for (Runnable task : batch){
+                        try {
+                            task.run();
+                        } catch (RuntimeException e){
+                            failed.incrementAndGet() ;
+                        }
+                    }
+                });
+                batches++ ;
+            } catch (RejectedExecutionException e){
+                rejected += batch.size() ;
+            }
+        }
+    }
+
+    // ---- worker thread ----
+
+    // starts a daemon thread that advances the wheel at every tick boundary
+    public void start(){
+        lock.lock();
+        try {
+            if (worker != null) throw new IllegalStateException("already started") ;
+            running = true ;
+            worker = new Thread(this::work, "timing-wheel") ;
+            worker.setDaemon(true);
+            worker.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // stops the worker thread; pending timeouts stay scheduled and can still be
+    // driven by advance()
+    public void stop() throws InterruptedException {
+        Thread t = worker ;
+        if (t == null) return ;
+        running = false ;
+        LockSupport.unpark(t);
+        t.join();
+        worker = null ;
+    }
+
+    private void work(){
+        while (running){
+            long next ;
+            lock.lock();
+            try {
+                next = startNanos + (tick + 1) * tickNanos ;
+            } finally {
+                lock.unlock();
+            }
+            long wait = next - clock.getAsLong() ;
+            if (wait > 0){
+                LockSupport.parkNanos(this, wait);
+                continue ;
+            }
+            advance();
+        }
+    }
+
+    // ---- configuration and metrics ----
+
+    // how many expired tasks go into one executor task
+    public void setBatchSize(int batchSize){
+        if (batchSize <= 0) throw new IllegalArgumentException("batch size must be positive") ;
+        this.batchSize = batchSize ;
+    }
+
+    public long tickDuration(TimeUnit unit){
+        return unit.convert(tickNanos, TimeUnit.NANOSECONDS) ;
+    }
+
+    public long pendingCount(){
+        lock.lock();
+        try {
+            return pending ;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // how late the last advance ran relative to the end of the tick it processed up to,
+    // and the worst seen so far; grows when the thread driving the wheel falls behind
+    public long tickLag(TimeUnit unit){
+        return unit.convert(lastTickLag, TimeUnit.NANOSECONDS) ;
+    }
+
+    public long maxTickLag(TimeUnit unit){
+        return unit.convert(maxTickLag, TimeUnit.NANOSECONDS) ;
+    }
+
+    // timeouts currently in one slot of one level
+    public int bucketDepth(int level, int slot){
+        lock.lock();
+        try {
+            return levels[level].slots[slot].depth ;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // deepest bucket of a level; a deep level-0 bucket means one tick will fire a burst
+    public int maxBucketDepth(int level){
+        lock.lock();
+        try {
+            int max = 0 ;
+            Level l = levels[level] ;
+            Slot s = l.head ;
+            do {
+                max = Math.max(max, s.depth) ;
+                s = s.next ;
+            } while (s != l.head) ;
+            return max ;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long expiredCount(){
+        lock.lock();
+        try {
+            return expired ;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long cancelledCount(){
+        lock.lock();
+        try {
+            return cancelled ;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // timeouts moved down a level by cascading
+    public long cascadedCount(){
+        lock.lock();
+        try {
+            return cascaded ;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // tasks expired by the last advance
+    public int lastExpiredCount(){
+        lock.lock();
+        try {
+            return lastExpired ;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // batches handed to the executor, and tasks dropped because it rejected them
+    public long batchCount(){
+        return batches ;
+    }
+
+    public long rejectedCount(){
+        return rejected ;
+    }
+
+    // tasks that threw while running
+    public long failedCount(){
+        return failed.get() ;
+    }
+}
@@ -0,0 +1,170 @@
+package LinkedList;
+
+// each node stores a block of values instead of a single one, so a scan
+// touches one object per `capacity` elements instead of one per element
+public class UnrolledLL {
+    Node head ;
+    Node tail ;
+    int size ;
+    private final int capacity ;
+
+    public UnrolledLL(){
+        this(64) ;
+    }
+
+    public UnrolledLL(int capacity){
+        if (capacity < 2) throw new IllegalArgumentException("capacity must be at least 2") ;
+        this.capacity = capacity ;
+        this.size = 0 ;
+    }
+
+    private class Node{
+        int[] values ;
+        int count ;
+        Node next, prev ;
+
+        public Node(){
+            this.values = new int[capacity] ;
+        }
+    }
+
+    public void insertFirst(int value){
+        if (head == null){
+            head = new Node() ;
+            tail = head ;
+        }
+        if (head.count == capacity){
+            split(head);
+        }
+        System.arraycopy(head.values, 0, head.values, 1, head.count);
+        head.values[0] = value ;
+        head.count++ ;
+        this.size++ ;
+    }
+
+    public void append(int value){
+        if (tail == null){
+            head = new Node() ;
+            tail = head ;
+        }
+        if (tail.count == capacity){
+            Node node = new Node() ;
+            node.prev = tail ;
+            tail.next = node ;
+            tail = node ;
+        }
+        tail.values[tail.count++] = value ;
+        this.size++ ;
+    }
+
+    public void append(int index, int value){
+        if (index < 0 || index > size) return ;
+        if (index == size){
+            this.append(value);
+            return ;
+        }
+        Node node = head ;
+        while (index >= node.count){
+            index -= node.count ;
+            node = node.next ;
+        }
+        if (node.count == capacity){
+            split(node);
+            if (index >= node.count){
+                index -= node.count ;
+                node = node.next ;
+            }
+        }
+        System.arraycopy(node.values, index, node.values, index + 1, node.count - index);
+        node.values[index] = value ;
+        node.count++ ;
+        this.size++ ;
+    }
+
+    public void delete(int value){
+        Node node = head ;
+        while (node != null){
+            for (int i = 0; i < node.count; i++){
+                if (node.values[i] == value){
+                    System.arraycopy(node.values, i + 1, node.values, i, node.count - i - 1);
+                    node.count-- ;
+                    this.size-- ;
+                    rebalance(node);
+                    return ;
+                }
+            }
+            node = node.next ;
+        }
+    }
+
+    public void traverse(){
+        Node node = head ;
+        while (node != null){
+            for (int i = 0; i < node.count; i++){
+                System.out.println(node.values[i]);
+            }
+            node = node.next ;
+        }
+    }
+
+    public void traverseRev(){
+        Node node = tail ;
+        while (node != null){
+            for (int i = node.count - 1; i >= 0; i--){
+                System.out.println(node.values[i]);
+            }
+            node = node.prev ;
+        }
+    }
+
+    // moves the upper half of a full node into a fresh node right after it
+    private void split(Node node){
+        Node right = new Node() ;
+        int half = node.count / 2 ;
+        right.count = node.count - half ;
+        System.arraycopy(node.values, half, right.values, 0, right.count);
+        node.count = half ;
+        right.next = node.next ;
+        right.prev = node ;
+        if (node.next != null){
+            node.next.prev = right ;
+        } else {
+            tail = right ;
+        }
+        node.next = right ;
+    }
+
+    // keeps every node at least half full by borrowing from or merging with the next one
+    private void rebalance(Node node){
+        if (node.count == 0){
+            unlink(node);
+            return ;
+        }
+        Node next = node.next ;
+        if (node.count >= capacity / 2 || next == null) return ;
+        if (node.count + next.count <= capacity){
+            System.arraycopy(next.values, 0, node.values, node.count, next.count);
+            node.count += next.count ;
+            unlink(next);
+        } else {
+            int move = capacity / 2 - node.count ;
+            System.arraycopy(next.values, 0, node.values, node.count, move);
+            System.arraycopy(next.values, move, next.values, 0, next.count - move);
+            node.count += move ;
+            next.count -= move ;
+        }
+    }
+
+    private void unlink(Node node){
+        if (node.prev != null){
+            node.prev.next = node.next ;
+        } else {
+            head = node.next ;
+        }
+        if (node.next != null){
+            node.next.prev = node.prev ;
+        } else {
+            tail = node.prev ;
+        }
+    }
+}
@@ -1,4 +1,768 @@
 package Looping;
 
-public class Functions {
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+
+/**
+ * Hot-loop kernels over {@code int[]}, {@code long[]} and {@code double[]}: sum, min/max,
+ * dot product, prefix sum, filter-count, select-into and histogram.
+ *
+ * <p>Each kernel is written the way the JIT handles best for that loop shape. Plain
+ * counted loops over {@code int}/{@code long} with an integer accumulator (sum, dot) are
+ * left simple, because C2 turns them into SIMD code on its own and manual unrolling only
+ * gets in its way. Loops it does not vectorize get the unrolling by hand: floating-point
+ * sums and dots use several independent accumulators (C2 must keep the strict left-to-right
+ * order of a single {@code double} accumulator), min/max use four independent chains,
+ * filter-count and select are branch-free so random data does not mispredict, and the
+ * histogram spreads its increments over four sub-histograms so runs of equal values do not
+ * serialize on one counter.
+ *
+ * <p>The {@code parallel*} variants split the range into blocks of {@value #BLOCK} elements
+ * and run the same kernels on them in the common {@link ForkJoinPool}. They fall back to the
+ * sequential kernel for short ranges and when the pool has a single thread.
+ *
+ * <p>{@code long} sums and dots and integer prefix sums wrap on overflow like the plain
+ * loops they replace. Floating-point sums and dots add in a different order than a left-to-right
+ * loop, so the last bits of the result may differ.
+ */
+public final class Functions {
+
+    /** Elements per fork-join block; below two blocks the parallel variants run sequentially. */
+    public static final int BLOCK = 1 << 16;
+
+    /** Up to this many buckets the histogram uses four sub-histograms. */
+    private static final int SPLIT_HISTOGRAM_MAX = 1 << 12;
+
+    private Functions() {
+    }
+
+    // ----- sum -----
+
+    public static long sum(int[] a) {
+        return sum(a, 0, a.length);
+    }
+
+    /** Sum of {@code a[from, to)} as a {@code long}, so it does not overflow for any {@code int[]}. */
+    public static long sum(int[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        long s = 0;
+        for (int i = from; i < to; i++) {
+            s += a[i];
+        }
+        return s;
+    }
+
+    public static long sum(long[] a) {
+        return sum(a, 0, a.length);
+    }
+
+    public static long sum(long[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        long s = 0;
+        for (int i = from; i < to; i++) {
+            s += a[i];
+        }
+        return s;
+    }
+
+    public static double sum(double[] a) {
+        return sum(a, 0, a.length);
+    }
+
+    /** Eight-way unrolled; adds in a different order than a left-to-right loop. */
+    public static double sum(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0, s4 = 0, s5 = 0, s6 = 0, s7 = 0;
+        int i = from;
+        for (; i + 7 < to; i += 8) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+            s4 += a[i + 4];
+            s5 += a[i + 5];
+            s6 += a[i + 6];
+            s7 += a[i + 7];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+        return ((s0 + s1) + (s2 + s3)) + ((s4 + s5) + (s6 + s7));
+    }
+
+    // ----- min / max: an empty range returns the identity (MAX_VALUE for min, MIN_VALUE for max) -----
+
+    public static int min(int[] a) {
+        return min(a, 0, a.length);
+    }
+
+    public static int min(int[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        int m0 = Integer.MAX_VALUE, m1 = m0, m2 = m0, m3 = m0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.min(m0, a[i]);
+            m1 = Math.min(m1, a[i + 1]);
+            m2 = Math.min(m2, a[i + 2]);
+            m3 = Math.min(m3, a[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, a[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    public static int max(int[] a) {
+        return max(a, 0, a.length);
+    }
+
+    public static int max(int[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        int m0 = Integer.MIN_VALUE, m1 = m0, m2 = m0, m3 = m0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.max(m0, a[i]);
+            m1 = Math.max(m1, a[i + 1]);
+            m2 = Math.max(m2, a[i + 2]);
+            m3 = Math.max(m3, a[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, a[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    public static long min(long[] a) {
+        return min(a, 0, a.length);
+    }
+
+    public static long min(long[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        long m0 = Long.MAX_VALUE, m1 = m0, m2 = m0, m3 = m0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.min(m0, a[i]);
+            m1 = Math.min(m1, a[i + 1]);
+            m2 = Math.min(m2, a[i + 2]);
+            m3 = Math.min(m3, a[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, a[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    public static long max(long[] a) {
+        return max(a, 0, a.length);
+    }
+
+    public static long max(long[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        long m0 = Long.MIN_VALUE, m1 = m0, m2 = m0, m3 = m0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.max(m0, a[i]);
+            m1 = Math.max(m1, a[i + 1]);
+            m2 = Math.max(m2, a[i + 2]);
+            m3 = Math.max(m3, a[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, a[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    public static double min(double[] a) {
+        return min(a, 0, a.length);
+    }
+
+    /** Same rules as {@link Math#min(double, double)}: NaN if any element is NaN, -0.0 below 0.0. */
+    public static double min(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        double m0 = Double.POSITIVE_INFINITY, m1 = m0, m2 = m0, m3 = m0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.min(m0, a[i]);
+            m1 = Math.min(m1, a[i + 1]);
+            m2 = Math.min(m2, a[i + 2]);
+            m3 = Math.min(m3, a[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, a[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    public static double max(double[] a) {
+        return max(a, 0, a.length);
+    }
+
+    public static double max(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        double m0 = Double.NEGATIVE_INFINITY, m1 = m0, m2 = m0, m3 = m0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.max(m0, a[i]);
+            m1 = Math.max(m1, a[i + 1]);
+            m2 = Math.max(m2, a[i + 2]);
+            m3 = Math.max(m3, a[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, a[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    // ----- dot product -----
+
+    /** Sum of {@code a[i] * b[i]} in {@code long}; the arrays must have the same length. */
+    public static long dot(int[] a, int[] b) {
+        checkSameLength(a.length, b.length);
+        return dot(a, 0, b, 0, a.length);
+    }
+
+    public static long dot(int[] a, int aFrom, int[] b, int bFrom, int length) {
+        Objects.checkFromIndexSize(aFrom, length, a.length);
+        Objects.checkFromIndexSize(bFrom, length, b.length);
+        long s = 0;
+        for (int i = 0; i < length; i++) {
+            s += (long) a[aFrom + i] * b[bFrom + i];
+        }
+        return s;
+    }
+
+    public static long dot(long[] a, long[] b) {
+        checkSameLength(a.length, b.length);
+        return dot(a, 0, b, 0, a.length);
+    }
+
+    public static long dot(long[] a, int aFrom, long[] b, int bFrom, int length) {
+        Objects.checkFromIndexSize(aFrom, length, a.length);
+        Objects.checkFromIndexSize(bFrom, length, b.length);
+        long s = 0;
+        for (int i = 0; i < length; i++) {
+            s += a[aFrom + i] * b[bFrom + i];
+        }
+        return s;
+    }
+
+    public static double dot(double[] a, double[] b) {
+        checkSameLength(a.length, b.length);
+        return dot(a, 0, b, 0, a.length);
+    }
+
+    /** Four-way unrolled; adds in a different order than a left-to-right loop. */
+    public static double dot(double[] a, int aFrom, double[] b, int bFrom, int length) {
+        Objects.checkFromIndexSize(aFrom, length, a.length);
+        Objects.checkFromIndexSize(bFrom, length, b.length);
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            s0 += a[aFrom + i] * b[bFrom + i];
+            s1 += a[aFrom + i + 1] * b[bFrom + i + 1];
+            s2 += a[aFrom + i + 2] * b[bFrom + i + 2];
+            s3 += a[aFrom + i + 3] * b[bFrom + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[aFrom + i] * b[bFrom + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    // ----- prefix sum (inclusive, in place) -----
+
+    public static void prefixSum(int[] a) {
+        prefixSum(a, 0, a.length);
+    }
+
+    /** Replaces {@code a[i]} with {@code a[from] + ... + a[i]} for every i in {@code [from, to)}. */
+    public static void prefixSum(int[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        for (int i = from + 1; i < to; i++) {
+            a[i] += a[i - 1];
+        }
+    }
+
+    public static void prefixSum(long[] a) {
+        prefixSum(a, 0, a.length);
+    }
+
+    public static void prefixSum(long[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        for (int i = from + 1; i < to; i++) {
+            a[i] += a[i - 1];
+        }
+    }
+
+    public static void prefixSum(double[] a) {
+        prefixSum(a, 0, a.length);
+    }
+
+    public static void prefixSum(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        for (int i = from + 1; i < to; i++) {
+            a[i] += a[i - 1];
+        }
+    }
+
+    // ----- filter-count -----
+
+    /** Number of elements of {@code a[from, to)} in {@code [lo, hi)}; 0 if {@code hi <= lo}. */
+    public static int countBetween(int[] a, int from, int to, int lo, int hi) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (hi <= lo) return 0;
+        // v - lo < hi - lo as unsigned 32-bit values, done in long so the compare is a
+        // subtraction and a shift instead of a branch
+        long width = (hi - lo) & 0xFFFF_FFFFL;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            count += (int) ((((a[i] - lo) & 0xFFFF_FFFFL) - width) >>> 63);
+        }
+        return count;
+    }
+
+    public static int countBetween(long[] a, int from, int to, long lo, long hi) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (hi <= lo) return 0;
+        long width = hi - lo;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            count += Long.compareUnsigned(a[i] - lo, width) < 0 ? 1 : 0;
+        }
+        return count;
+    }
+
+    /** Number of elements of {@code a[from, to)} the predicate accepts, testing each once, in order. */
+    public static int countIf(int[] a, int from, int to, IntPredicate filter) {
+        Objects.checkFromToIndex(from, to, a.length);
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            count += filter.test(a[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    // ----- select-into -----
+
+    /**
+     * Copies the elements of {@code src[from, to)} that lie in {@code [lo, hi)} to
+     * {@code dst} starting at {@code dstPos}, keeping their order, and returns how many
+     * were copied.
+     *
+     * <p>The copy is branch-free: every element is stored at the next free slot and the
+     * slot is only kept if the element matched. So the slot right after the last match,
+     * {@code dst[dstPos + count]}, may be overwritten when it exists. {@code dst} may be
+     * {@code src} with {@code dstPos <= from}, which compacts the range in place.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the matches do not fit in {@code dst}
+     */
+    public static int selectBetween(int[] src, int from, int to, int lo, int hi, int[] dst, int dstPos) {
+        Objects.checkFromToIndex(from, to, src.length);
+        Objects.checkIndex(dstPos, dst.length + 1);
+        return selectBetween(src, from, to, lo, hi, dst, dstPos, dst.length);
+    }
+
+    // limit bounds the speculative store; the parallel variant passes the end of each
+    // block's output so blocks never touch each other's slots
+    private static int selectBetween(int[] src, int from, int to, int lo, int hi, int[] dst, int dstPos, int limit) {
+        if (hi <= lo) return 0;
+        long width = (hi - lo) & 0xFFFF_FFFFL;
+        int n = dstPos;
+        int i = from;
+        for (; i < to && n < limit - 1; i++) {
+            int v = src[i];
+            dst[n] = v;
+            n += (int) ((((v - lo) & 0xFFFF_FFFFL) - width) >>> 63);
+        }
+        for (; i < to; i++) {
+            int v = src[i];
+            if ((((v - lo) & 0xFFFF_FFFFL) - width) < 0) dst[n++] = v;
+        }
+        return n - dstPos;
+    }
+
+    /** {@link #selectBetween(int[], int, int, int, int, int[], int)} for {@code long[]}. */
+    public static int selectBetween(long[] src, int from, int to, long lo, long hi, long[] dst, int dstPos) {
+        Objects.checkFromToIndex(from, to, src.length);
+        Objects.checkIndex(dstPos, dst.length + 1);
+        if (hi <= lo) return 0;
+        long width = hi - lo;
+        int limit = dst.length;
+        int n = dstPos;
+        int i = from;
+        for (; i < to && n < limit - 1; i++) {
+            long v = src[i];
+            dst[n] = v;
+            n += Long.compareUnsigned(v - lo, width) < 0 ? 1 : 0;
+        }
+        for (; i < to; i++) {
+            long v = src[i];
+            if (Long.compareUnsigned(v - lo, width) < 0) dst[n++] = v;
+        }
+        return n - dstPos;
+    }
+
+    /**
+     * Like {@link #selectBetween(int[], int, int, int, int, int[], int)} with a predicate,
+     * which is tested exactly once per element, in order.
+     */
+    public static int select(int[] src, int from, int to, IntPredicate keep, int[] dst, int dstPos) {
+        Objects.checkFromToIndex(from, to, src.length);
+        Objects.checkIndex(dstPos, dst.length + 1);
+        int limit = dst.length;
+        int n = dstPos;
+        int i = from;
+        for (; i < to && n < limit - 1; i++) {
+            int v = src[i];
+            dst[n] = v;
+            n += keep.test(v) ? 1 : 0;
+        }
+        for (; i < to; i++) {
+            int v = src[i];
+            if (keep.test(v)) dst[n++] = v;
+        }
+        return n - dstPos;
+    }
+
+    // ----- histogram -----
+
+    /**
+     * Adds the elements of {@code a[from, to)} to {@code counts}: bucket {@code b} counts
+     * the values in {@code [min + b * width, min + (b + 1) * width)}. Values outside all
+     * buckets are skipped.
+     *
+     * @return {@code counts}
+     */
+    public static int[] histogram(int[] a, int from, int to, int min, int width, int[] counts) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (width <= 0) throw new IllegalArgumentException("Illegal bucket width: " + width);
+        int buckets = counts.length;
+        long span = (long) width * buckets;
+        if (buckets <= SPLIT_HISTOGRAM_MAX && span <= Integer.MAX_VALUE) {
+            splitHistogram(a, from, to, min, width, counts);
+            return counts;
+        }
+        for (int i = from; i < to; i++) {
+            long d = (long) a[i] - min;
+            if (d >= 0 && d < span) counts[(int) (d / width)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Four interleaved sub-histograms, so consecutive equal values increment different
+     * counters instead of waiting on each other's store.
+     */
+    private static void splitHistogram(int[] a, int from, int to, int min, int width, int[] counts) {
+        int buckets = counts.length;
+        long span = (long) width * buckets;
+        // a power-of-two width divides with a shift; -1 selects the division
+        int shift = Integer.bitCount(width) == 1 ? Integer.numberOfTrailingZeros(width) : -1;
+        // one spare slot per sub-histogram takes the out-of-range values, so the loop
+        // body has no skip branch
+        int stride = buckets + 1;
+        int[] c = new int[stride * 4];
+        int i = from;
+        if (shift >= 0) {
+            for (; i + 3 < to; i += 4) {
+                c[bucket(a[i], min, shift, span, buckets)]++;
+                c[stride + bucket(a[i + 1], min, shift, span, buckets)]++;
+                c[2 * stride + bucket(a[i + 2], min, shift, span, buckets)]++;
+                c[3 * stride + bucket(a[i + 3], min, shift, span, buckets)]++;
+            }
+        } else {
+            for (; i + 3 < to; i += 4) {
+                c[divideBucket(a[i], min, width, span, buckets)]++;
+                c[stride + divideBucket(a[i + 1], min, width, span, buckets)]++;
+                c[2 * stride + divideBucket(a[i + 2], min, width, span, buckets)]++;
+                c[3 * stride + divideBucket(a[i + 3], min, width, span, buckets)]++;
+            }
+        }
+        for (; i < to; i++) {
+            c[divideBucket(a[i], min, width, span, buckets)]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            counts[b] += c[b] + c[stride + b] + c[2 * stride + b] + c[3 * stride + b];
+        }
+    }
+
+    // bucket index, or the spare slot `buckets` for values outside the range
+    private static int bucket(int v, int min, int shift, long span, int buckets) {
+        long d = (long) v - min;
+        return Long.compareUnsigned(d, span) < 0 ? (int) d >>> shift : buckets;
+    }
+
+    private static int divideBucket(int v, int min, int width, long span, int buckets) {
+        long d = (long) v - min;
+        return Long.compareUnsigned(d, span) < 0 ? (int) d / width : buckets;
+    }
+
+    // ----- parallel variants -----
+
+    public static long parallelSum(int[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return sum(a, from, to);
+        long[] partial = new long[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = sum(a, lo, hi));
+        return sum(partial);
+    }
+
+    public static long parallelSum(long[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return sum(a, from, to);
+        long[] partial = new long[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = sum(a, lo, hi));
+        return sum(partial);
+    }
+
+    public static double parallelSum(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return sum(a, from, to);
+        double[] partial = new double[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = sum(a, lo, hi));
+        return sum(partial);
+    }
+
+    public static int parallelMin(int[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return min(a, from, to);
+        int[] partial = new int[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = min(a, lo, hi));
+        return min(partial);
+    }
+
+    public static int parallelMax(int[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return max(a, from, to);
+        int[] partial = new int[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = max(a, lo, hi));
+        return max(partial);
+    }
+
+    public static long parallelMin(long[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return min(a, from, to);
+        long[] partial = new long[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = min(a, lo, hi));
+        return min(partial);
+    }
+
+    public static long parallelMax(long[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return max(a, from, to);
+        long[] partial = new long[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = max(a, lo, hi));
+        return max(partial);
+    }
+
+    public static double parallelMin(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return min(a, from, to);
+        double[] partial = new double[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = min(a, lo, hi));
+        return min(partial);
+    }
+
+    public static double parallelMax(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return max(a, from, to);
+        double[] partial = new double[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = max(a, lo, hi));
+        return max(partial);
+    }
+
+    public static long parallelDot(int[] a, int[] b) {
+        checkSameLength(a.length, b.length);
+        if (sequential(0, a.length)) return dot(a, b);
+        long[] partial = new long[blocks(0, a.length)];
+        forEachBlock(0, a.length, (k, lo, hi) -> partial[k] = dot(a, lo, b, lo, hi - lo));
+        return sum(partial);
+    }
+
+    public static long parallelDot(long[] a, long[] b) {
+        checkSameLength(a.length, b.length);
+        if (sequential(0, a.length)) return dot(a, b);
+        long[] partial = new long[blocks(0, a.length)];
+        forEachBlock(0, a.length, (k, lo, hi) -> partial[k] = dot(a, lo, b, lo, hi - lo));
+        return sum(partial);
+    }
+
+    public static double parallelDot(double[] a, double[] b) {
+        checkSameLength(a.length, b.length);
+        if (sequential(0, a.length)) return dot(a, b);
+        double[] partial = new double[blocks(0, a.length)];
+        forEachBlock(0, a.length, (k, lo, hi) -> partial[k] = dot(a, lo, b, lo, hi - lo));
+        return sum(partial);
+    }
+
+    /**
+     * Two passes: block totals in parallel, a short sequential scan over the totals, then
+     * every block runs its own prefix sum starting from the total of the blocks before it.
+     */
+    public static void parallelPrefixSum(int[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) {
+            prefixSum(a, from, to);
+            return;
+        }
+        int[] carry = new int[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> carry[b] = (int) sum(a, lo, hi));
+        int running = 0;
+        for (int b = 0; b < carry.length; b++) {
+            int total = carry[b];
+            carry[b] = running;
+            running += total;
+        }
+        forEachBlock(from, to, (b, lo, hi) -> {
+            a[lo] += carry[b];
+            prefixSum(a, lo, hi);
+        });
+    }
+
+    public static void parallelPrefixSum(long[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) {
+            prefixSum(a, from, to);
+            return;
+        }
+        long[] carry = new long[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> carry[b] = sum(a, lo, hi));
+        long running = 0;
+        for (int b = 0; b < carry.length; b++) {
+            long total = carry[b];
+            carry[b] = running;
+            running += total;
+        }
+        forEachBlock(from, to, (b, lo, hi) -> {
+            a[lo] += carry[b];
+            prefixSum(a, lo, hi);
+        });
+    }
+
+    /** Rounds differently from the sequential scan at block boundaries. */
+    public static void parallelPrefixSum(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) {
+            prefixSum(a, from, to);
+            return;
+        }
+        double[] carry = new double[blocks(from, to)];
+        forEachBlock(from, to, (b, lo, hi) -> carry[b] = sum(a, lo, hi));
+        double running = 0;
+        for (int b = 0; b < carry.length; b++) {
+            double total = carry[b];
+            carry[b] = running;
+            running += total;
+        }
+        forEachBlock(from, to, (b, lo, hi) -> {
+            a[lo] += carry[b];
+            prefixSum(a, lo, hi);
+        });
+    }
+
+    public static int parallelCountBetween(int[] a, int from, int to, int lo, int hi) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return countBetween(a, from, to, lo, hi);
+        long[] partial = new long[blocks(from, to)];
+        forEachBlock(from, to, (b, l, h) -> partial[b] = countBetween(a, l, h, lo, hi));
+        return (int) sum(partial);
+    }
+
+    public static int parallelCountBetween(long[] a, int from, int to, long lo, long hi) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (sequential(from, to)) return countBetween(a, from, to, lo, hi);
+        long[] partial = new long[blocks(from, to)];
+        forEachBlock(from, to, (b, l, h) -> partial[b] = countBetween(a, l, h, lo, hi));
+        return (int) sum(partial);
+    }
+
+    /**
+     * Counts per block first, so every block knows where its matches go, then copies in
+     * parallel. Unlike the sequential version it never writes past the last match, and
+     * {@code src} and {@code dst} must be different arrays.
+     */
+    public static int parallelSelectBetween(int[] src, int from, int to, int lo, int hi, int[] dst, int dstPos) {
+        Objects.checkFromToIndex(from, to, src.length);
+        Objects.checkIndex(dstPos, dst.length + 1);
+        // checked before the size test, so small inputs fail the same way large ones do
+        if (src == dst) throw new IllegalArgumentException("parallel select cannot run in place");
+        if (sequential(from, to)) return selectBetween(src, from, to, lo, hi, dst, dstPos);
+        int[] offset = new int[blocks(from, to) + 1];
+        forEachBlock(from, to, (b, l, h) -> offset[b + 1] = countBetween(src, l, h, lo, hi));
+        offset[0] = dstPos;
+        prefixSum(offset);
+        Objects.checkFromToIndex(dstPos, offset[offset.length - 1], dst.length);
+        forEachBlock(from, to, (b, l, h) -> selectBetween(src, l, h, lo, hi, dst, offset[b], offset[b + 1]));
+        return offset[offset.length - 1] - dstPos;
+    }
+
+    /** Each block fills its own histogram; they are added up at the end. */
+    public static int[] parallelHistogram(int[] a, int from, int to, int min, int width, int[] counts) {
+        Objects.checkFromToIndex(from, to, a.length);
+        if (width <= 0) throw new IllegalArgumentException("Illegal bucket width: " + width);
+        if (sequential(from, to)) return histogram(a, from, to, min, width, counts);
+        int[][] partial = new int[blocks(from, to)][];
+        forEachBlock(from, to, (b, lo, hi) -> partial[b] = histogram(a, lo, hi, min, width, new int[counts.length]));
+        for (int[] p : partial) {
+            for (int b = 0; b < counts.length; b++) {
+                counts[b] += p[b];
+            }
+        }
+        return counts;
+    }
+
+    // ----- fork-join plumbing -----
+
+    @FunctionalInterface
+    private interface BlockBody {
+        void run(int block, int from, int to);
+    }
+
+    private static boolean sequential(int from, int to) {
+        return to - from < 2 * BLOCK || ForkJoinPool.getCommonPoolParallelism() < 2;
+    }
+
+    private static int blocks(int from, int to) {
+        return (int) (((long) to - from + BLOCK - 1) / BLOCK);
+    }
+
+    private static void forEachBlock(int from, int to, BlockBody body) {
+        ForkJoinPool.commonPool().invoke(new Blocks(from, to, 0, blocks(from, to), body));
+    }
+
+    /** Splits a run of block indexes in halves until one block is left, then runs it. */
+    private static final class Blocks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int first;
+        private final int last;
+        private final transient BlockBody body;
+
+        Blocks(int from, int to, int first, int last, BlockBody body) {
+            this.from = from;
+            this.to = to;
+            this.first = first;
+            this.last = last;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first == 1) {
+                int lo = from + first * BLOCK;
+                body.run(first, lo, Math.min(to, lo + BLOCK));
+                return;
+            }
+            int mid = (first + last) >>> 1;
+            invokeAll(new Blocks(from, to, first, mid, body), new Blocks(from, to, mid, last, body));
+        }
+    }
+
+    private static void checkSameLength(int a, int b) {
+        if (a != b) throw new IllegalArgumentException("Array lengths differ: " + a + " vs " + b);
+    }
 }
@@ -0,0 +1,93 @@
+package Looping;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// each kernel against the plain loop it replaces and the IntStream equivalent.
+// run with -Djava.util.concurrent.ForkJoinPool.common.parallelism=N to see the parallel
+// variants split; with one core they fall back to the sequential kernels
+public class MainFunctions {
+    interface Body {
+        long run();
+    }
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 22;
+        Random random = new Random(11);
+        int[] a = new int[n];
+        int[] b = new int[n];
+        double[] d = new double[n];
+        double[] e = new double[n];
+        int[] skewed = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(1000);
+            b[i] = random.nextInt();
+            d[i] = random.nextDouble();
+            e[i] = random.nextDouble();
+            skewed[i] = random.nextInt(16) == 0 ? random.nextInt(256) : 7;
+        }
+        int[] dst = new int[n];
+        System.out.println(n + " elements, fork-join parallelism " + java.util.concurrent.ForkJoinPool.getCommonPoolParallelism());
+
+        section("sum int[]");
+        time("plain loop", () -> { long s = 0; for (int v : a) s += v; return s; });
+        time("IntStream.sum", () -> IntStream.of(a).asLongStream().sum());
+        time("Functions.sum", () -> Functions.sum(a));
+        time("Functions.parallelSum", () -> Functions.parallelSum(a, 0, n));
+
+        section("sum double[]");
+        time("plain loop", () -> { double s = 0; for (double v : d) s += v; return (long) s; });
+        time("DoubleStream.sum", () -> (long) java.util.Arrays.stream(d).sum());
+        time("Functions.sum", () -> (long) Functions.sum(d));
+
+        section("min int[]");
+        time("plain loop", () -> { int m = Integer.MAX_VALUE; for (int v : b) m = Math.min(m, v); return m; });
+        time("IntStream.min", () -> IntStream.of(b).min().getAsInt());
+        time("Functions.min", () -> Functions.min(b));
+
+        section("dot double[]");
+        time("plain loop", () -> { double s = 0; for (int i = 0; i < n; i++) s += d[i] * e[i]; return (long) s; });
+        time("IntStream.range", () -> (long) IntStream.range(0, n).mapToDouble(i -> d[i] * e[i]).sum());
+        time("Functions.dot", () -> (long) Functions.dot(d, e));
+
+        section("count in [100, 600)");
+        time("plain loop", () -> { int c = 0; for (int v : a) if (v >= 100 && v < 600) c++; return c; });
+        time("IntStream.filter.count", () -> IntStream.of(a).filter(v -> v >= 100 && v < 600).count());
+        time("Functions.countBetween", () -> Functions.countBetween(a, 0, n, 100, 600));
+
+        section("select [100, 600) into int[]");
+        time("plain loop", () -> { int c = 0; for (int v : a) if (v >= 100 && v < 600) dst[c++] = v; return c; });
+        time("IntStream.filter.toArray", () -> IntStream.of(a).filter(v -> v >= 100 && v < 600).toArray().length);
+        time("Functions.selectBetween", () -> Functions.selectBetween(a, 0, n, 100, 600, dst, 0));
+
+        section("histogram, 256 buckets, skewed");
+        time("plain loop", () -> { int[] h = new int[256]; for (int v : skewed) h[v]++; return h[7]; });
+        time("Functions.histogram", () -> Functions.histogram(skewed, 0, n, 0, 1, new int[256])[7]);
+
+        section("prefix sum int[]");
+        int[] p = a.clone();
+        time("plain loop", () -> { for (int i = 1; i < n; i++) p[i] += p[i - 1]; return p[n - 1]; });
+        time("Functions.prefixSum", () -> { Functions.prefixSum(p); return p[n - 1]; });
+        time("Functions.parallelPrefixSum", () -> { Functions.parallelPrefixSum(p, 0, n); return p[n - 1]; });
+
+        System.out.println("(" + sink + ")");
+    }
+
+    static void section(String name) {
+        System.out.println("-- " + name);
+    }
+
+    // best of 30 runs after 10 warm-up runs
+    static void time(String label, Body body) {
+        for (int i = 0; i < 10; i++) sink += body.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 30; i++) {
+            long start = System.nanoTime();
+            sink += body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("  %-30s %8.3f ms%n", label, best / 1e6);
+    }
+}